@@ -1,5 +1,13 @@
 package adt;
 
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import processing.core.PApplet;
 
 /**
@@ -19,6 +27,12 @@ import processing.core.PApplet;
  * so ist diese zwar universell nutzbar, man benötigt beim Zugriff auf den
  * Binärbaum dann aber häufig Typecasting.
  *
+ * Ein Teilbaum kann immer nur an einer Stelle eingehängt sein, weil jeder
+ * Knoten Tiefe und Anzahl seines Teilbaums speichert und Änderungen an seinen
+ * Elternknoten weitergibt. setLeft und setRight weisen daher einen Baum
+ * zurück, der schon eingehängt ist oder diesen Baum selbst enthält; soll er
+ * umgehängt werden, muss er vorher an der alten Stelle gelöscht werden.
+ *
  * @author Hendrik Bodenstein (basierend auf Originalcode)
  * @author Gemini (Überarbeitungen und Verbesserungen)
  * @author ChatGPT (Überarbeitungen und Verbesserungen)
@@ -26,17 +40,31 @@ import processing.core.PApplet;
  */
 public class BinTree {
 
-	private BinTreeGUI gui = new BinTreeGUI(this);
+	private BinTreeGUI gui; // wird erst beim ersten Zeichnen angelegt
 
-	private Inhalt inh = new Inhalt(); // Inhalt der Wurzel des Baumes
+	private Inhalt inh; // Inhalt der Wurzel des Baumes
 	private BinTree links = null; // linker Teilbaum
 	private BinTree rechts = null; // rechter Teilbaum
 
+	/*
+	 * Zwischengespeicherte Angaben über den Teilbaum. Sie werden bei jeder
+	 * Änderung vom geänderten Knoten aus bis zur Wurzel nachgeführt, damit
+	 * getTiefe() und size() ohne Durchlauf auskommen. Deshalb hat jeder Knoten
+	 * höchstens einen Elternknoten, siehe pruefeEinhaengen.
+	 */
+	private BinTree eltern = null; // Baum, in den dieser Baum eingehängt ist
+	private int tiefe = 0; // Anzahl der Ebenen
+	private int anzahl = 0; // Anzahl der Knoten mit Inhalt
+	private int aenderungen = 0; // Änderungszähler dieses Teilbaums, siehe getAenderungen
+	private boolean herausgegeben = false; // Inhalt wurde mit getItem herausgegeben und evtl. geändert
+	private boolean offen = false; // Teilbaum enthält einen leeren oder herausgegebenen Inhalt, siehe nachfuehren
+
 	/**
 	 * Ein leerer Binärbaum wird angelegt.
 	 */
 	public BinTree() {
 		inh = new Inhalt();
+		offen = true;
 		links = null; // Kein Baum vorhanden
 		rechts = null; // Kein Baum vorhanden
 	}
@@ -47,7 +75,7 @@ public class BinTree {
 	 * @param i Der Inhalt für den neuen Binärbaum.
 	 */
 	public BinTree(Inhalt i) {
-		inh = i;
+		setItem(i);
 	}
 
 	/**
@@ -56,7 +84,7 @@ public class BinTree {
 	 * @param s Die Zeichenkette als Inhalt.
 	 */
 	public BinTree(String s) {
-		inh.setText(s);
+		setItem(new Inhalt(s));
 	}
 
 	/**
@@ -65,7 +93,7 @@ public class BinTree {
 	 * @param z Die Ganzzahl als Inhalt.
 	 */
 	public BinTree(int z) {
-		inh.setZahl(z);
+		setItem(new Inhalt(z));
 	}
 
 	/**
@@ -133,6 +161,160 @@ public class BinTree {
 		this.setRight(jTree);
 	}
 
+	/**
+	 * Aus aufsteigend sortierten Zahlen wird in einem Durchlauf ein
+	 * ausgeglichener Suchbaum aufgebaut: Die mittlere Zahl wird zur Wurzel, die
+	 * linke und rechte Hälfte bilden auf dieselbe Weise die Teilbäume.
+	 * 
+	 * @param sortiert Die aufsteigend sortierten Zahlen.
+	 * @return Der neue Baum, leer, wenn keine Zahlen übergeben wurden.
+	 */
+	public static BinTree balanciert(int[] sortiert) {
+		return balanciert(sortiert.length, i -> new BinTree(sortiert[i]));
+	}
+
+	/**
+	 * Aus aufsteigend sortierten Zeichenketten wird in einem Durchlauf ein
+	 * ausgeglichener Suchbaum aufgebaut.
+	 * 
+	 * @param sortiert Die aufsteigend sortierten Zeichenketten.
+	 * @return Der neue Baum, leer, wenn keine Zeichenketten übergeben wurden.
+	 */
+	public static BinTree balanciert(String[] sortiert) {
+		return balanciert(sortiert.length, i -> new BinTree(sortiert[i]));
+	}
+
+	/**
+	 * Aus einem aufsteigend sortierten DynArray wird in einem Durchlauf ein
+	 * ausgeglichener Suchbaum aufgebaut. Integer-Elemente werden als Zahlen
+	 * gespeichert, alle anderen Elemente als ihre Zeichenkette.
+	 * 
+	 * @param sortiert Das aufsteigend sortierte DynArray.
+	 * @return Der neue Baum, leer, wenn das DynArray leer ist.
+	 */
+	public static BinTree balanciert(DynArray<?> sortiert) {
+		Object[] werte = new Object[sortiert.getLength()];
+		int n = 0;
+		for (Object o : sortiert) {
+			werte[n++] = o;
+		}
+		return balanciert(n, i -> werte[i] instanceof Integer z ? new BinTree(z) : new BinTree(String.valueOf(werte[i])));
+	}
+
+	/**
+	 * Aus einem aufsteigend sortierten Strom von Zahlen wird ein ausgeglichener
+	 * Suchbaum aufgebaut.
+	 * 
+	 * @param sortiert Der aufsteigend sortierte Strom.
+	 * @return Der neue Baum, leer, wenn der Strom leer ist.
+	 */
+	public static BinTree balanciert(IntStream sortiert) {
+		return balanciert(sortiert.toArray());
+	}
+
+	/**
+	 * Aus einem aufsteigend sortierten Strom von Zeichenketten wird ein
+	 * ausgeglichener Suchbaum aufgebaut.
+	 * 
+	 * @param sortiert Der aufsteigend sortierte Strom.
+	 * @return Der neue Baum, leer, wenn der Strom leer ist.
+	 */
+	public static BinTree balanciert(Stream<String> sortiert) {
+		return balanciert(sortiert.toArray(String[]::new));
+	}
+
+	/**
+	 * Baut den ausgeglichenen Baum über die Positionen 0 bis n-1 auf. Die Knoten
+	 * werden zuerst in Preorder bestimmt und dann in umgekehrter Reihenfolge
+	 * verbunden, sodass jeder Teilbaum fertig ist, bevor er eingehängt wird.
+	 * Tiefe und Anzahl müssen so nie bis zur Wurzel nachgeführt werden, und der
+	 * Aufbau kommt ohne Rekursion mit O(n) Schritten aus.
+	 */
+	private static BinTree balanciert(int n, IntFunction<BinTree> erzeugen) {
+		if (n == 0) {
+			return new BinTree();
+		}
+		int[] von = new int[n]; // Bereich des Teilbaums je Eintrag in Preorder
+		int[] bis = new int[n];
+		int[] offenVon = new int[32]; // Stapel der noch aufzuteilenden Bereiche
+		int[] offenBis = new int[32];
+		int groesse = 0;
+		int anzahl = 0;
+		offenVon[groesse] = 0;
+		offenBis[groesse++] = n - 1;
+		while (groesse > 0) {
+			groesse--;
+			int v = offenVon[groesse];
+			int b = offenBis[groesse];
+			von[anzahl] = v;
+			bis[anzahl++] = b;
+			int mitte = (v + b) >>> 1;
+			if (groesse + 2 > offenVon.length) {
+				offenVon = Arrays.copyOf(offenVon, offenVon.length * 2);
+				offenBis = Arrays.copyOf(offenBis, offenBis.length * 2);
+			}
+			if (mitte < b) {
+				offenVon[groesse] = mitte + 1;
+				offenBis[groesse++] = b;
+			}
+			if (v < mitte) {
+				offenVon[groesse] = v;
+				offenBis[groesse++] = mitte - 1;
+			}
+		}
+		BinTree[] knoten = new BinTree[n];
+		for (int i = n - 1; i >= 0; i--) {
+			int v = von[i];
+			int b = bis[i];
+			int mitte = (v + b) >>> 1;
+			BinTree k = erzeugen.apply(mitte);
+			if (v < mitte) {
+				k.setLeft(knoten[(v + mitte - 1) >>> 1]);
+			}
+			if (mitte < b) {
+				k.setRight(knoten[(mitte + 1 + b) >>> 1]);
+			}
+			knoten[mitte] = k;
+		}
+		return knoten[(n - 1) >>> 1];
+	}
+
+	/**
+	 * Die Zahlen des Baumes werden in Inorder, bei einem Suchbaum also sortiert,
+	 * als Feld zurückgegeben. Knoten mit Text werden übergangen.
+	 * 
+	 * @return Die Zahlen in Inorder.
+	 */
+	public int[] inorderZahlen() {
+		nachfuehren();
+		int[] zahlen = new int[anzahl];
+		int[] n = { 0 };
+		new BinTreeTraversal().inOrder(this, k -> {
+			if (k.inh.istZahl()) {
+				zahlen[n[0]++] = k.inh.getZahl();
+			}
+		});
+		return n[0] == zahlen.length ? zahlen : Arrays.copyOf(zahlen, n[0]);
+	}
+
+	/**
+	 * Die Zeichenketten des Baumes werden in Inorder, bei einem Suchbaum also
+	 * sortiert, als Feld zurückgegeben. Knoten mit Zahlen werden übergangen.
+	 * 
+	 * @return Die Zeichenketten in Inorder.
+	 */
+	public String[] inorderTexte() {
+		nachfuehren();
+		String[] texte = new String[anzahl];
+		int[] n = { 0 };
+		new BinTreeTraversal().inOrder(this, k -> {
+			if (k.inh.istText()) {
+				texte[n[0]++] = k.inh.getText();
+			}
+		});
+		return n[0] == texte.length ? texte : Arrays.copyOf(texte, n[0]);
+	}
+
 	/**
 	 * Wenn die Wurzel des Baumes keinen Inhalt besitzt, wird der Wert wahr
 	 * zurückgegeben, sonst der Wert falsch.
@@ -147,11 +329,30 @@ public class BinTree {
 	}
 
 	/**
-	 * Der Inhalt der Wurzel des Baumes wird zurückgegeben.
+	 * Der Inhalt der Wurzel des Baumes wird zurückgegeben. Wird er danach
+	 * direkt mit setZahl oder setText geändert, bemerkt der Baum das bei der
+	 * nächsten Abfrage von Tiefe oder Anzahl bzw. beim nächsten Zeichnen. Ein
+	 * Inhalt, der aufbewahrt und erst später geändert wird, sollte danach mit
+	 * setItem erneut gesetzt werden.
 	 * 
 	 * @return Der Inhalt der Wurzel.
 	 */
 	public Inhalt getItem() {
+		if (!herausgegeben) {
+			herausgegeben = true;
+			for (BinTree k = this; k != null && !k.offen; k = k.eltern) {
+				k.offen = true;
+			}
+		}
+		return inh;
+	}
+
+	/**
+	 * Gibt den Inhalt für die Klassen des Pakets zurück, die ihn nur lesen.
+	 * Anders als bei getItem wird er dabei nicht als möglicherweise geändert
+	 * vermerkt.
+	 */
+	Inhalt inhalt() {
 		return inh;
 	}
 
@@ -162,13 +363,14 @@ public class BinTree {
 	 */
 	public void setItem(Inhalt inhalt) {
 		inh = inhalt;
+		aktualisieren();
 	}
 
 	/**
 	 * Der Inhalt der Wurzel des Baumes wird gelöscht.
 	 */
 	public void deleteItem() {
-		inh = new Inhalt();
+		setItem(new Inhalt());
 	}
 
 	/**
@@ -207,16 +409,23 @@ public class BinTree {
 	 * Der linke Teilbaum des Baumes wird auf den übergebenen Baum gesetzt.
 	 * 
 	 * @param b Der neue linke Teilbaum.
+	 * @throws IllegalArgumentException wenn b schon in einen Baum eingehängt ist
+	 *                                  oder diesen Baum enthält.
 	 */
 	public void setLeft(BinTree b) {
+		if (b != links) {
+			pruefeEinhaengen(b);
+		}
+		abhaengen(links);
 		links = b;
+		einhaengen(b);
 	}
 
 	/**
 	 * Der linke Teilbaum des Baumes wird gelöscht.
 	 */
 	public void deleteLeft() {
-		links = null;
+		setLeft(null);
 	}
 
 	/**
@@ -242,16 +451,23 @@ public class BinTree {
 	 * Der rechte Teilbaum des Baumes wird auf den übergebenen Baum gesetzt.
 	 * 
 	 * @param b Der neue rechte Teilbaum.
+	 * @throws IllegalArgumentException wenn b schon in einen Baum eingehängt ist
+	 *                                  oder diesen Baum enthält.
 	 */
 	public void setRight(BinTree b) {
+		if (b != rechts) {
+			pruefeEinhaengen(b);
+		}
+		abhaengen(rechts);
 		rechts = b;
+		einhaengen(b);
 	}
 
 	/**
 	 * Der rechte Teilbaum des Baumes wird gelöscht.
 	 */
 	public void deleteRight() {
-		rechts = null;
+		setRight(null);
 	}
 
 	/**
@@ -260,21 +476,115 @@ public class BinTree {
 	 * @param sketch Das PApplet-Objekt für die Visualisierung.
 	 */
 	public void drawBinTree(PApplet sketch) {
+		if (gui == null) {
+			gui = new BinTreeGUI(this);
+		}
 		gui.drawBinTree(sketch);
 	}
 
 	/**
-	 * Methode zur Bestimmung der Tiefe, die für das Zeichnen benötigt wird.
+	 * Gibt den Knoten zurück, der beim letzten Aufruf von drawBinTree an der
+	 * übergebenen Stelle gezeichnet wurde, z. B. um auf einen Mausklick zu
+	 * reagieren.
+	 * 
+	 * @param x Die x-Koordinate auf dem Sketch, z. B. mouseX.
+	 * @param y Die y-Koordinate auf dem Sketch, z. B. mouseY.
+	 * @return Der getroffene Teilbaum oder null, wenn dort kein Knoten liegt
+	 *         oder der Baum noch nicht gezeichnet wurde.
+	 */
+	public BinTree getNodeAt(float x, float y) {
+		return gui == null ? null : gui.getNodeAt(x, y);
+	}
+
+	/**
+	 * Gibt den Baum zurück, in den dieser Baum eingehängt ist.
+	 * 
+	 * @return Der Elternknoten oder null, wenn der Baum nirgends eingehängt ist.
+	 */
+	BinTree getEltern() {
+		return eltern;
+	}
+
+	/**
+	 * Methode zur Bestimmung der Tiefe, die für das Zeichnen benötigt wird. Die
+	 * Tiefe wird bei jeder Änderung des Baumes nachgeführt und hier nur
+	 * ausgelesen.
 	 * 
 	 * @return Die Tiefe des Baumes.
 	 */
 	int getTiefe() {
-		if (!hasItem()) {
-			return 0;
+		nachfuehren();
+		return tiefe;
+	}
+
+	/**
+	 * Gibt den Änderungszähler dieses Teilbaums zurück. Jede Änderung eines
+	 * Inhalts oder eines Teilbaums erhöht den Zähler des geänderten Knotens und
+	 * aller seiner Vorfahren. Solange er gleich bleibt, hat sich der Teilbaum
+	 * nicht geändert und die GUI muss nicht neu zeichnen.
+	 * 
+	 * @return Der Änderungszähler.
+	 */
+	int getAenderungen() {
+		nachfuehren();
+		return aenderungen;
+	}
+
+	/**
+	 * Rotiert den Baum nach rechts: Das linke Kind wird zur neuen Wurzel, dieser
+	 * Knoten zu dessen rechtem Kind. Tiefe und Anzahl werden nur für die beiden
+	 * beteiligten Knoten neu berechnet; die neue Wurzel ist danach nirgends
+	 * eingehängt und muss vom Aufrufer an die Stelle dieses Knotens gesetzt
+	 * werden.
+	 * 
+	 * @return Die neue Wurzel des Teilbaums.
+	 */
+	BinTree rechtsRotieren() {
+		BinTree neu = links;
+		links = neu.rechts;
+		if (links != null) {
+			links.eltern = this;
 		}
-		int leftDepth = (links != null && links.hasItem()) ? links.getTiefe() : 0;
-		int rightDepth = (rechts != null && rechts.hasItem()) ? rechts.getTiefe() : 0;
-		return Math.max(leftDepth, rightDepth) + 1;
+		neu.rechts = this;
+		neu.eltern = null;
+		eltern = neu;
+		neuBerechnen();
+		neu.neuBerechnen();
+		aenderungen++;
+		neu.aenderungen++;
+		return neu;
+	}
+
+	/**
+	 * Rotiert den Baum nach links, siehe {@link #rechtsRotieren()}.
+	 * 
+	 * @return Die neue Wurzel des Teilbaums.
+	 */
+	BinTree linksRotieren() {
+		BinTree neu = rechts;
+		rechts = neu.links;
+		if (rechts != null) {
+			rechts.eltern = this;
+		}
+		neu.links = this;
+		neu.eltern = null;
+		eltern = neu;
+		neuBerechnen();
+		neu.neuBerechnen();
+		aenderungen++;
+		neu.aenderungen++;
+		return neu;
+	}
+
+	/**
+	 * Die Anzahl der Knoten mit Inhalt wird zurückgegeben. Wie bei der Tiefe
+	 * zählt ein Teilbaum ohne Inhalt samt seinen Kindern nicht mit.
+	 * 
+	 * @return Die Anzahl der Knoten des Baumes.
+	 */
+	public int size() {
+		nachfuehren();
+		return anzahl;
 	}
 
 	/**
@@ -283,18 +593,20 @@ public class BinTree {
 	 * @param value Der Wert des neuen Knotens (Integer).
 	 */
 	void addNodeToTree(int value) {
-		if (!hasItem()) {
-			inh.setZahl(value);
-		} else if (links == null) {
-			links = new BinTree(value);
-		} else if (rechts == null) {
-			rechts = new BinTree(value);
-		} else {
-			if (Math.random() < 0.5) {
-				links.addNodeToTree(value);
-			} else {
-				rechts.addNodeToTree(value);
+		BinTree k = this;
+		while (true) {
+			if (!k.hasItem()) {
+				k.inh.setZahl(value);
+				k.aktualisieren();
+				return;
+			} else if (k.links == null) {
+				k.setLeft(new BinTree(value));
+				return;
+			} else if (k.rechts == null) {
+				k.setRight(new BinTree(value));
+				return;
 			}
+			k = Math.random() < 0.5 ? k.links : k.rechts; // eine Ebene tiefer weitersuchen
 		}
 	}
 
@@ -304,80 +616,333 @@ public class BinTree {
 	 * @param value Der Wert des neuen Knotens (String).
 	 */
 	void addNodeToTree(String value) {
-		if (!hasItem()) {
-			inh.setText(value);
-		} else if (links == null) {
-			links = new BinTree(value);
-		} else if (rechts == null) {
-			rechts = new BinTree(value);
-		} else {
-			if (Math.random() < 0.5) {
-				links.addNodeToTree(value);
-			} else {
-				rechts.addNodeToTree(value);
+		BinTree k = this;
+		while (true) {
+			if (!k.hasItem()) {
+				k.inh.setText(value);
+				k.aktualisieren();
+				return;
+			} else if (k.links == null) {
+				k.setLeft(new BinTree(value));
+				return;
+			} else if (k.rechts == null) {
+				k.setRight(new BinTree(value));
+				return;
 			}
+			k = Math.random() < 0.5 ? k.links : k.rechts; // eine Ebene tiefer weitersuchen
 		}
+	}
 
+	/**
+	 * Die Anzahl der Knoten wird parallel durch Abzählen bestimmt. Anders als
+	 * {@link #size()} wird dabei der ganze Baum durchlaufen.
+	 * 
+	 * @return Die Anzahl der Knoten mit Inhalt.
+	 */
+	public int parallelSize() {
+		return parallelSize(BinTreeParallel.SCHWELLE);
+	}
+
+	/**
+	 * Wie {@link #parallelSize()}, Teilbäume mit höchstens {@code schwelle}
+	 * Knoten werden aber nicht weiter aufgeteilt.
+	 * 
+	 * @param schwelle Die Größe, ab der nacheinander gezählt wird.
+	 * @return Die Anzahl der Knoten mit Inhalt.
+	 */
+	public int parallelSize(int schwelle) {
+		return BinTreeParallel.groesse(this, schwelle);
+	}
+
+	/**
+	 * Die Tiefe des Baumes wird parallel durch einen Durchlauf bestimmt.
+	 * 
+	 * @return Die Tiefe des Baumes.
+	 */
+	public int parallelHeight() {
+		return parallelHeight(BinTreeParallel.SCHWELLE);
+	}
+
+	/**
+	 * Wie {@link #parallelHeight()}, Teilbäume mit höchstens {@code schwelle}
+	 * Knoten werden aber nicht weiter aufgeteilt.
+	 * 
+	 * @param schwelle Die Größe, ab der nacheinander gerechnet wird.
+	 * @return Die Tiefe des Baumes.
+	 */
+	public int parallelHeight(int schwelle) {
+		return BinTreeParallel.hoehe(this, schwelle);
+	}
+
+	/**
+	 * Jeder Inhalt des Baumes wird parallel abgebildet und die Ergebnisse werden
+	 * zu einem Wert verknüpft, z. B. zur Summe aller Zahlen:
+	 * {@code baum.parallelReduce(0L, i -> (long) i.getZahl(), Long::sum)}. Da
+	 * die Teilergebnisse in keiner festen Reihenfolge zusammenkommen, muss die
+	 * Verknüpfung assoziativ und kommutativ sein.
+	 * 
+	 * @param <R>         Der Typ des Ergebnisses.
+	 * @param identitaet  Das neutrale Element der Verknüpfung.
+	 * @param abbildung   Bildet einen Inhalt auf einen Wert ab.
+	 * @param verknuepfung Verknüpft zwei Werte.
+	 * @return Das verknüpfte Ergebnis, {@code identitaet} bei einem leeren Baum.
+	 */
+	public <R> R parallelReduce(R identitaet, Function<? super Inhalt, ? extends R> abbildung,
+			BinaryOperator<R> verknuepfung) {
+		return parallelReduce(identitaet, abbildung, verknuepfung, BinTreeParallel.SCHWELLE);
+	}
+
+	/**
+	 * Wie {@link #parallelReduce(Object, Function, BinaryOperator)}, Teilbäume mit
+	 * höchstens {@code schwelle} Knoten werden aber nicht weiter aufgeteilt.
+	 * 
+	 * @param <R>         Der Typ des Ergebnisses.
+	 * @param identitaet  Das neutrale Element der Verknüpfung.
+	 * @param abbildung   Bildet einen Inhalt auf einen Wert ab.
+	 * @param verknuepfung Verknüpft zwei Werte.
+	 * @param schwelle    Die Größe, ab der nacheinander gerechnet wird.
+	 * @return Das verknüpfte Ergebnis.
+	 */
+	public <R> R parallelReduce(R identitaet, Function<? super Inhalt, ? extends R> abbildung,
+			BinaryOperator<R> verknuepfung, int schwelle) {
+		return BinTreeParallel.reduzieren(this, identitaet, abbildung, verknuepfung, schwelle);
+	}
+
+	/**
+	 * Sucht parallel einen Knoten, dessen Inhalt die Bedingung erfüllt. Passen
+	 * mehrere Knoten, wird irgendeiner davon geliefert.
+	 * 
+	 * @param bedingung Die zu erfüllende Bedingung.
+	 * @return Ein passender Teilbaum oder null, wenn kein Inhalt passt.
+	 */
+	public BinTree parallelFind(Predicate<? super Inhalt> bedingung) {
+		return parallelFind(bedingung, BinTreeParallel.SCHWELLE);
+	}
+
+	/**
+	 * Wie {@link #parallelFind(Predicate)}, Teilbäume mit höchstens
+	 * {@code schwelle} Knoten werden aber nicht weiter aufgeteilt.
+	 * 
+	 * @param bedingung Die zu erfüllende Bedingung.
+	 * @param schwelle  Die Größe, ab der nacheinander gesucht wird.
+	 * @return Ein passender Teilbaum oder null, wenn kein Inhalt passt.
+	 */
+	public BinTree parallelFind(Predicate<? super Inhalt> bedingung, int schwelle) {
+		return BinTreeParallel.suchen(this, bedingung, schwelle);
 	}
 
 	/**
 	 * Setzt den Baum zurück.
 	 */
 	void reset() {
-		this.inh = new Inhalt();
+		abhaengen(links);
+		abhaengen(rechts);
 		this.links = null;
 		this.rechts = null;
+		setItem(new Inhalt());
+	}
+
+	/**
+	 * Prüft, ob b als Teilbaum eingehängt werden darf: Er darf noch keinen
+	 * Elternknoten haben, sonst stimmten Tiefe und Anzahl an einer der beiden
+	 * Stellen nicht mehr, und er darf kein Vorfahre dieses Baumes sein, sonst
+	 * entstünde ein Kreis.
+	 */
+	private void pruefeEinhaengen(BinTree b) {
+		if (b == null) {
+			return;
+		}
+		if (b.eltern != null) {
+			throw new IllegalArgumentException("Der Teilbaum ist schon eingehängt");
+		}
+		for (BinTree k = this; k != null; k = k.eltern) {
+			if (k == b) {
+				throw new IllegalArgumentException("Der Teilbaum enthält den Baum, in den er eingehängt werden soll");
+			}
+		}
+	}
+
+	/**
+	 * Löst den Verweis eines bisherigen Teilbaums auf diesen Baum, damit seine
+	 * späteren Änderungen nicht mehr hierher gemeldet werden.
+	 */
+	private void abhaengen(BinTree b) {
+		if (b != null && b.eltern == this) {
+			b.eltern = null;
+		}
+	}
+
+	/**
+	 * Merkt diesen Baum als Eltern des neuen Teilbaums und führt Tiefe und
+	 * Anzahl nach.
+	 */
+	private void einhaengen(BinTree b) {
+		if (b != null) {
+			b.eltern = this;
+		}
+		aktualisieren();
+	}
+
+	/**
+	 * Erhöht die Änderungszähler dieses Knotens und aller Vorfahren und
+	 * berechnet dabei Tiefe und Anzahl aus denen der Kinder neu. Sobald sich
+	 * bei einem Knoten Tiefe und Anzahl nicht ändern, bleiben sie auch bei
+	 * allen darüberliegenden Knoten gleich; ab dort werden nur noch die Zähler
+	 * erhöht. Das kostet O(Tiefe), bei einem ausgeglichenen Baum also
+	 * O(log n).
+	 */
+	private void aktualisieren() {
+		boolean neuBerechnen = true;
+		for (BinTree k = this; k != null; k = k.eltern) {
+			k.aenderungen++;
+			if (neuBerechnen) {
+				neuBerechnen = k.neuBerechnen();
+			}
+		}
+	}
+
+	/**
+	 * Berechnet Tiefe und Anzahl dieses Knotens aus denen seiner Kinder neu.
+	 * 
+	 * @return true, wenn sich dabei etwas geändert hat.
+	 */
+	private boolean neuBerechnen() {
+		int neueTiefe = 0;
+		int neueAnzahl = 0;
+		boolean leer = inh.istLeer();
+		if (!leer) {
+			int tl = links != null ? links.tiefe : 0;
+			int tr = rechts != null ? rechts.tiefe : 0;
+			neueTiefe = Math.max(tl, tr) + 1;
+			neueAnzahl = 1 + (links != null ? links.anzahl : 0) + (rechts != null ? rechts.anzahl : 0);
+		}
+		boolean neuOffen = leer || herausgegeben || (links != null && links.offen) || (rechts != null && rechts.offen);
+		boolean geaendert = neueTiefe != tiefe || neueAnzahl != anzahl || neuOffen != offen;
+		tiefe = neueTiefe;
+		anzahl = neueAnzahl;
+		offen = neuOffen;
+		return geaendert;
+	}
+
+	/**
+	 * Ein Inhalt kennt den Baum nicht, der ihn trägt. Wird ein mit getItem
+	 * herausgegebener Inhalt direkt geändert, erfährt der Baum davon also
+	 * nichts; bei einem vorher leeren Inhalt stehen sogar noch Tiefe und
+	 * Anzahl 0. Solche Knoten werden hier gesucht, als geändert gemeldet und
+	 * samt ihren Vorfahren neu berechnet. Besucht werden nur Teilbäume mit
+	 * leeren oder herausgegebenen Inhalten; gibt es keine, kostet der Aufruf
+	 * nichts.
+	 */
+	void nachfuehren() {
+		if (!offen) {
+			return;
+		}
+		BinTree[] stapel = new BinTree[16];
+		int n = 0;
+		stapel[n++] = this;
+		while (n > 0) {
+			BinTree k = stapel[--n];
+			if (k.herausgegeben || (k.tiefe == 0 && !k.inh.istLeer())) {
+				k.herausgegeben = false;
+				k.aktualisieren();
+			}
+			if (n + 2 > stapel.length) {
+				stapel = Arrays.copyOf(stapel, stapel.length * 2);
+			}
+			if (k.links != null && k.links.offen) {
+				stapel[n++] = k.links;
+			}
+			if (k.rechts != null && k.rechts.offen) {
+				stapel[n++] = k.rechts;
+			}
+		}
 	}
 
 	/**
 	 * Klasse Inhalt zur internen Verwaltung der einzelnen Elemente des Binärbaums.
+	 * Ein Inhalt ist entweder leer, eine Ganzzahl oder eine Zeichenkette; welche
+	 * Art vorliegt, merkt sich ein eigenes Kennzeichen. Dadurch kann auch -1 als
+	 * Zahl gespeichert werden, und ein Inhalt mit einer Zahl verweist auf keine
+	 * Zeichenkette. Ein Inhalt kennt den Baum nicht, der ihn trägt, und kann
+	 * daher auch von mehreren Knoten gemeinsam benutzt werden. Für die Abfragen
+	 * gelten weiterhin die alten Vorgaben: getZahl liefert -1, wenn keine Zahl
+	 * gespeichert ist, getText liefert "", wenn kein Text gespeichert ist.
 	 */
-	 public class Inhalt {
-		private int zahl = -1;
-		private String text = "";
+	public static class Inhalt {
+		private static final byte LEER = 0;
+		private static final byte ZAHL = 1;
+		private static final byte TEXT = 2;
+
+		private byte art = LEER;
+		private int zahl;
+		private String text; // nur bei einem Text belegt
 
 		/**
-		 * Ein neuer Inhalt wird angelegt.
+		 * Ein neuer, leerer Inhalt wird angelegt.
 		 */
 		public Inhalt() {
-			zahl = -1;
-			text = "";
 		}
 
 		/**
-		 * Die Ganzzahl des Inhalts wird auf die übergebene Zahl gesetzt.
+		 * Ein neuer Inhalt mit der übergebenen Ganzzahl wird angelegt.
+		 * 
+		 * @param z Die Ganzzahl.
+		 */
+		public Inhalt(int z) {
+			art = ZAHL;
+			zahl = z;
+		}
+
+		/**
+		 * Ein neuer Inhalt mit der übergebenen Zeichenkette wird angelegt.
+		 * 
+		 * @param s Die Zeichenkette.
+		 */
+		public Inhalt(String s) {
+			art = TEXT;
+			text = s;
+		}
+
+		/**
+		 * Die Ganzzahl des Inhalts wird auf die übergebene Zahl gesetzt. Ein
+		 * bisher gespeicherter Text wird dabei verworfen.
 		 * 
 		 * @param z Die neue Ganzzahl.
 		 */
 		public void setZahl(int z) {
+			art = ZAHL;
 			zahl = z;
+			text = null;
 		}
 
 		/**
 		 * Die Zeichenkette des Inhalts wird auf die übergebene Zeichenkette gesetzt.
+		 * Eine bisher gespeicherte Zahl wird dabei verworfen.
 		 * 
 		 * @param s Die neue Zeichenkette.
 		 */
 		public void setText(String s) {
+			art = TEXT;
 			text = s;
+			zahl = 0;
 		}
 
 		/**
 		 * Die Ganzzahl des Inhalts wird zurückgegeben.
 		 * 
-		 * @return Die Ganzzahl.
+		 * @return Die Ganzzahl oder -1, wenn der Inhalt keine Zahl ist.
 		 */
 		public int getZahl() {
-			return zahl;
+			return art == ZAHL ? zahl : -1;
 		}
 
 		/**
 		 * Die Zeichenkette des Inhalts wird zurückgegeben.
 		 * 
-		 * @return Die Zeichenkette.
+		 * @return Die Zeichenkette oder "", wenn der Inhalt kein Text ist.
 		 */
 		public String getText() {
-			return text;
+			return art == TEXT ? text : "";
 		}
 
 		/**
@@ -387,8 +952,27 @@ public class BinTree {
 		 * @return true, wenn der Inhalt leer ist, sonst false.
 		 */
 		public boolean istLeer() {
+			return art == LEER;
+		}
+
+		/**
+		 * Wenn der Inhalt eine Ganzzahl ist, wird der Wert wahr zurückgegeben, sonst
+		 * der Wert falsch.
+		 * 
+		 * @return true, wenn der Inhalt eine Zahl ist, sonst false.
+		 */
+		public boolean istZahl() {
+			return art == ZAHL;
+		}
 
-			return (zahl == -1 && text.equals(""));
+		/**
+		 * Wenn der Inhalt eine Zeichenkette ist, wird der Wert wahr zurückgegeben,
+		 * sonst der Wert falsch.
+		 * 
+		 * @return true, wenn der Inhalt ein Text ist, sonst false.
+		 */
+		public boolean istText() {
+			return art == TEXT;
 		}
 
 	}
@@ -5,12 +5,17 @@ import static javax.swing.JOptionPane.showInputDialog;
 import static javax.swing.JOptionPane.showMessageDialog;
 
 import processing.core.PApplet;
+import processing.core.PGraphics;
 
 /**
  * Die Klasse {@code BinTreeGUI} implementiert eine grafische Benutzeroberfläche
  * (GUI) für die Interaktion mit einem Binärbaum ({@code BinTreeP}). Sie
  * verwendet Processing für die grafische Darstellung und Swing für
  * Dialogfenster.
+ * <p>
+ * Der Baum wird in einen {@link DrawBuffer} gezeichnet und nur neu gezeichnet,
+ * wenn sich der Baum, die Verschiebung oder die Skalierung ändern. Die Buttons
+ * werden in jedem Frame direkt gezeichnet.
  *
  * @author Hendrik Bodenstein (basierend auf Originalcode)
  * @author Gemini (Überarbeitungen und Verbesserungen)
@@ -19,8 +24,17 @@ import processing.core.PApplet;
  */
 public class BinTreeGUI extends PApplet {
 
+	private static final float NODE_SIZE = 30; // Durchmesser eines Knotens
+	private static final float TOP = 50; // y-Koordinate der Wurzel
+	private static final float DETAIL_PIXELS = 8; // schmalere Teilbäume werden zusammengefasst
+
 	private BinTree binTree;
 	private PApplet sketch;
+	private PGraphics canvas; // Puffer, in den der Baum gezeichnet wird
+	private final DrawBuffer buffer = new DrawBuffer();
+	private BinTreeLayout layout; // wird erst beim ersten Zeichnen angelegt
+	private int layoutVersion; // Änderungszähler des Baumes, zu dem das Layout gehört
+	private float rootX; // x-Koordinate der Wurzel beim letzten Zeichnen
 	private int buttonColor = 255;
 	private int highlightColor = 150;
 	String input = "";
@@ -62,11 +76,18 @@ public class BinTreeGUI extends PApplet {
 	public void drawBinTree(PApplet p) {
 		this.sketch = p;
 
+		canvas = buffer.begin(p, binTree.getAenderungen(), translateX, translateY, scaleFactor);
+		if (canvas != null) {
+			canvas.translate(translateX, translateY);
+			canvas.scale(scaleFactor);
+			drawTree();
+			buffer.end();
+		}
+		buffer.show(p);
+
 		sketch.translate(translateX, translateY);
 		sketch.scale(scaleFactor);
 
-		drawTree(this.binTree, (float) sketch.width / 2, (float) 50, sketch.width / 4, binTree.getTiefe() - 1);
-
 		drawButtons();
 	}
 
@@ -114,47 +135,131 @@ public class BinTreeGUI extends PApplet {
 	}
 
 	/**
-	 * Zeichnet den Baum rekursiv.
+	 * Gibt den Knoten zurück, der beim letzten Zeichnen an der übergebenen
+	 * Stelle des Sketches lag, z. B. für einen Mausklick. Verschiebung und
+	 * Skalierung werden dabei berücksichtigt.
 	 *
-	 * @param bintree  Der aktuelle Knoten.
-	 * @param x        Die x-Koordinate des Knotens.
-	 * @param y        Die y-Koordinate des Knotens.
-	 * @param hSpacing Der horizontale Abstand zwischen den Knoten.
-	 * @param depth    Die aktuelle Tiefe im Baum.
+	 * @param px Die x-Koordinate auf dem Sketch.
+	 * @param py Die y-Koordinate auf dem Sketch.
+	 * @return Der getroffene Knoten oder null, wenn dort kein Knoten liegt.
 	 */
-	private void drawTree(BinTree bintree, float x, float y, int hSpacing, int depth) {
-		if (bintree == null || !bintree.hasItem() || depth < 0) {
-			sketch.background(200); // Hintergrund neu zeichnen, falls der Baum leer ist
-			return;
+	public BinTree getNodeAt(float px, float py) {
+		if (layout == null) {
+			return null; // noch nie gezeichnet
 		}
+		float x = (px - translateX) / scaleFactor - rootX;
+		float y = (py - translateY) / scaleFactor - TOP;
+		int i = layout.finden(x, y, NODE_SIZE / 2);
+		return i < 0 ? null : layout.getKnoten(i);
+	}
 
-		if (bintree.hasLeft() && bintree.getLeft() != null && bintree.getLeft().hasItem()) {
-			sketch.line(x, y, x - hSpacing, y + 50);
+	/**
+	 * Gibt das Layout des Baumes zurück. Es wird nur neu berechnet, wenn sich der
+	 * Baum seit der letzten Berechnung geändert hat.
+	 *
+	 * @return Das aktuelle Layout.
+	 */
+	private BinTreeLayout getLayout() {
+		int version = binTree.getAenderungen();
+		if (layout == null) {
+			layout = new BinTreeLayout();
+			layout.berechnen(binTree);
+		} else if (version != layoutVersion) {
+			layout.berechnen(binTree);
 		}
-		if (bintree.hasRight() && bintree.getRight() != null && bintree.getRight().hasItem()) {
-			sketch.line(x, y, x + hSpacing, y + 50);
+		layoutVersion = version;
+		return layout;
+	}
+
+	/**
+	 * Zeichnet den Baum. Die Lage der Knoten stammt aus dem {@link BinTreeLayout};
+	 * gezeichnet wird in einem Durchlauf über dessen Felder in Preorder, also in
+	 * derselben Reihenfolge wie früher rekursiv: erst die Kanten eines Knotens,
+	 * dann der Knoten, dann seine Teilbäume.
+	 * <p>
+	 * Liegt das umgebende Rechteck eines Teilbaums außerhalb des sichtbaren
+	 * Bereichs, wird der ganze Teilbaum übersprungen. Ist ein Teilbaum auf dem
+	 * Bildschirm schmaler als {@link #DETAIL_PIXELS}, wird statt seiner Knoten
+	 * nur seine Wurzel über einem Dreieck gezeichnet, das seine Ausdehnung
+	 * andeutet. Die Kosten eines Frames hängen so von den sichtbaren und nicht
+	 * von allen Knoten ab.
+	 */
+	private void drawTree() {
+		BinTreeLayout l = getLayout();
+		if (l.size() == 0) {
+			canvas.background(200); // Hintergrund neu zeichnen, falls der Baum leer ist
+			return;
 		}
 
-		sketch.fill(255);
-		sketch.ellipse(x, y, 30, 30);
+		rootX = (float) canvas.width / 2;
+		float r = NODE_SIZE / 2;
+		int i = 0;
+		while (i < l.size()) {
+			float x = rootX + l.getX(i);
+			float y = TOP + l.getY(i);
+			float left = rootX + l.getLinkerRand(i);
+			float right = rootX + l.getRechterRand(i);
+			float bottom = TOP + l.getUnten(i);
+			if (!isVisible(left - r, y - r, right + r, bottom + r)) {
+				i = l.getEnde(i);
+				continue;
+			}
+			if (l.getEnde(i) > i + 1 && (right - left) * Math.abs(scaleFactor) < DETAIL_PIXELS) {
+				canvas.fill(220);
+				canvas.triangle(x, y, left - r, bottom, right + r, bottom);
+				drawNode(l.getKnoten(i), x, y);
+				i = l.getEnde(i);
+				continue;
+			}
 
-		sketch.fill(0);
-		sketch.textAlign(PApplet.CENTER, PApplet.CENTER);
-		if (bintree.getItem().getZahl() != -1) {
-			sketch.text("" + bintree.getItem().getZahl(), x, y);
-		} else {
-			sketch.text(bintree.getItem().getText(), x, y);
+			int links = l.getLinks(i);
+			int rechts = l.getRechts(i);
+			if (links >= 0) {
+				canvas.line(x, y, rootX + l.getX(links), TOP + l.getY(links));
+			}
+			if (rechts >= 0) {
+				canvas.line(x, y, rootX + l.getX(rechts), TOP + l.getY(rechts));
+			}
+			drawNode(l.getKnoten(i), x, y);
+			i++;
 		}
+	}
 
-		if (bintree.hasLeft() && bintree.getLeft() != null && bintree.getLeft().hasItem()) {
-			drawTree(bintree.getLeft(), x - hSpacing, y + 50, hSpacing / 2, depth - 1);
-		}
+	/**
+	 * Zeichnet einen einzelnen Knoten mit seinem Inhalt.
+	 *
+	 * @param bintree Der Knoten.
+	 * @param x       Die x-Koordinate des Knotens.
+	 * @param y       Die y-Koordinate des Knotens.
+	 */
+	private void drawNode(BinTree bintree, float x, float y) {
+		canvas.fill(255);
+		canvas.ellipse(x, y, NODE_SIZE, NODE_SIZE);
 
-		if (bintree.hasRight() && bintree.getRight() != null && bintree.getRight().hasItem()) {
-			drawTree(bintree.getRight(), x + hSpacing, y + 50, hSpacing / 2, depth - 1);
+		canvas.fill(0);
+		canvas.textAlign(PApplet.CENTER, PApplet.CENTER);
+		if (bintree.inhalt().istZahl()) {
+			canvas.text("" + bintree.inhalt().getZahl(), x, y);
+		} else {
+			canvas.text(bintree.inhalt().getText(), x, y);
 		}
 	}
 
+	/**
+	 * Prüft, ob ein Rechteck in Baumkoordinaten nach Verschiebung und Skalierung
+	 * den Sketch überdeckt.
+	 *
+	 * @return {@code true}, wenn das Rechteck (teilweise) sichtbar ist.
+	 */
+	private boolean isVisible(float left, float top, float right, float bottom) {
+		float x1 = translateX + left * scaleFactor;
+		float x2 = translateX + right * scaleFactor;
+		float y1 = translateY + top * scaleFactor;
+		float y2 = translateY + bottom * scaleFactor;
+		return Math.max(x1, x2) >= 0 && Math.min(x1, x2) <= canvas.width && Math.max(y1, y2) >= 0
+				&& Math.min(y1, y2) <= canvas.height;
+	}
+
 	/**
 	 * Innere Klasse zur Repräsentation eines Buttons.
 	 */
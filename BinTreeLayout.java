@@ -0,0 +1,342 @@
+package adt;
+
+import java.util.Arrays;
+
+/**
+ * Berechnet für die {@link BinTreeGUI} die Lage aller Knoten eines
+ * {@link BinTree} nach dem Verfahren von Reingold und Tilford. Jeder Knoten
+ * liegt mittig über seinen Kindern, ein linkes Kind links und ein rechtes Kind
+ * rechts von ihm, und zwei Knoten derselben Ebene sind mindestens
+ * {@link #KNOTENABSTAND} voneinander entfernt. Teilbäume werden dabei so dicht
+ * wie möglich zusammengeschoben, sodass auch tiefe Bäume lesbar bleiben.
+ * <p>
+ * Die Knoten werden in Preorder durchnummeriert; alle Angaben liegen unter
+ * dieser Nummer in Feldern. Der Teilbaum eines Knotens i belegt die Nummern i
+ * bis {@code getEnde(i) - 1}, ein Durchlauf in Nummernreihenfolge kann also
+ * ganze Teilbäume überspringen. Die Berechnung kommt ohne Rekursion aus und
+ * benötigt O(n) Schritte: Beim Zusammenschieben werden nur die Konturen der
+ * Teilbäume abgelaufen, und wo eine Kontur in einem flacheren Teilbaum endet,
+ * wird sie über einen "Faden" in den tieferen fortgesetzt.
+ * <p>
+ * Die Wurzel liegt bei (0, 0), die y-Koordinate wächst nach unten.
+ */
+final class BinTreeLayout {
+
+	/**
+	 * Mindestabstand der Mittelpunkte zweier Knoten derselben Ebene.
+	 */
+	static final float KNOTENABSTAND = 40;
+	/**
+	 * Senkrechter Abstand zweier Ebenen.
+	 */
+	static final float EBENENABSTAND = 50;
+
+	private int anzahl = 0;
+	private BinTree[] knoten = new BinTree[0];
+	private int[] links = new int[0]; // Nummer des linken Kindes oder -1
+	private int[] rechts = new int[0]; // Nummer des rechten Kindes oder -1
+	private int[] ende = new int[0]; // erste Nummer hinter dem Teilbaum
+	private int[] ebene = new int[0]; // 0 für die Wurzel
+	private float[] x = new float[0];
+	private float[] y = new float[0];
+	private float[] linkerRand = new float[0]; // kleinstes x im Teilbaum
+	private float[] rechterRand = new float[0]; // größtes x im Teilbaum
+	private float[] unten = new float[0]; // größtes y im Teilbaum
+
+	/**
+	 * Berechnet die Lage aller Knoten des übergebenen Baumes neu. Die Felder
+	 * werden wiederverwendet, solange sie groß genug sind.
+	 *
+	 * @param wurzel Der Baum.
+	 */
+	void berechnen(BinTree wurzel) {
+		anzahl = 0;
+		if (!BinTreeTraversal.vorhanden(wurzel)) {
+			return;
+		}
+		nummerieren(wurzel);
+		int n = anzahl;
+
+		// Abstände von unten nach oben bestimmen: in Preorder haben Kinder
+		// größere Nummern als ihre Eltern.
+		int[] konturLinks = Arrays.copyOf(links, n); // Kinder oder Fäden
+		int[] konturRechts = Arrays.copyOf(rechts, n);
+		float[] abstand = new float[n]; // Abstand zu den Kindern bzw. Länge des Fadens
+		int[] llKnoten = new int[n]; // unterster Knoten ganz links im Teilbaum
+		float[] llLage = new float[n]; // seine Lage relativ zur Teilbaumwurzel
+		int[] rrKnoten = new int[n]; // unterster Knoten ganz rechts im Teilbaum
+		float[] rrLage = new float[n];
+		for (int t = n - 1; t >= 0; t--) {
+			int l = links[t];
+			int r = rechts[t];
+			if (l < 0 && r < 0) {
+				llKnoten[t] = t;
+				rrKnoten[t] = t;
+				continue;
+			}
+
+			// Konturen beider Teilbäume Ebene für Ebene vergleichen
+			float aktuell = KNOTENABSTAND;
+			float wurzelAbstand = KNOTENABSTAND;
+			float lageL = 0; // Lage von kl relativ zu l
+			float lageR = 0; // Lage von kr relativ zu r
+			int kl = l;
+			int kr = r;
+			while (kl >= 0 && kr >= 0) {
+				if (aktuell < KNOTENABSTAND) {
+					wurzelAbstand += KNOTENABSTAND - aktuell;
+					aktuell = KNOTENABSTAND;
+				}
+				if (konturRechts[kl] >= 0) { // rechte Kontur des linken Teilbaums
+					lageL += abstand[kl];
+					aktuell -= abstand[kl];
+					kl = konturRechts[kl];
+				} else {
+					lageL -= abstand[kl];
+					aktuell += abstand[kl];
+					kl = konturLinks[kl];
+				}
+				if (konturLinks[kr] >= 0) { // linke Kontur des rechten Teilbaums
+					lageR -= abstand[kr];
+					aktuell -= abstand[kr];
+					kr = konturLinks[kr];
+				} else {
+					lageR += abstand[kr];
+					aktuell += abstand[kr];
+					kr = konturRechts[kr];
+				}
+			}
+			float h = wurzelAbstand / 2;
+			abstand[t] = h;
+			lageL -= h; // ab hier relativ zu t
+			lageR += h;
+
+			int llEbeneL = l >= 0 ? ebene[llKnoten[l]] : -1;
+			int rrEbeneL = l >= 0 ? ebene[rrKnoten[l]] : -1;
+			int llEbeneR = r >= 0 ? ebene[llKnoten[r]] : -1;
+			int rrEbeneR = r >= 0 ? ebene[rrKnoten[r]] : -1;
+			if (l < 0 || llEbeneR > llEbeneL) {
+				llKnoten[t] = llKnoten[r];
+				llLage[t] = llLage[r] + h;
+			} else {
+				llKnoten[t] = llKnoten[l];
+				llLage[t] = llLage[l] - h;
+			}
+			if (r < 0 || rrEbeneL > rrEbeneR) {
+				rrKnoten[t] = rrKnoten[l];
+				rrLage[t] = rrLage[l] - h;
+			} else {
+				rrKnoten[t] = rrKnoten[r];
+				rrLage[t] = rrLage[r] + h;
+			}
+
+			// Ist ein Teilbaum tiefer, wird die Kontur des flacheren mit einem
+			// Faden in ihm fortgesetzt.
+			if (kl >= 0 && r >= 0) {
+				int a = rrKnoten[r];
+				float lageA = rrLage[r] + h;
+				abstand[a] = Math.abs(lageL - lageA);
+				if (lageL <= lageA) {
+					konturLinks[a] = kl;
+				} else {
+					konturRechts[a] = kl;
+				}
+			} else if (kr >= 0 && l >= 0) {
+				int a = llKnoten[l];
+				float lageA = llLage[l] - h;
+				abstand[a] = Math.abs(lageR - lageA);
+				if (lageR >= lageA) {
+					konturRechts[a] = kr;
+				} else {
+					konturLinks[a] = kr;
+				}
+			}
+		}
+
+		// Lagen von oben nach unten festlegen; Blätter haben keine Kinder, ihr
+		// Abstand (ggf. die Länge eines Fadens) wird hier nicht mehr benutzt.
+		x[0] = 0;
+		for (int i = 0; i < n; i++) {
+			if (links[i] >= 0) {
+				x[links[i]] = x[i] - abstand[i];
+			}
+			if (rechts[i] >= 0) {
+				x[rechts[i]] = x[i] + abstand[i];
+			}
+		}
+
+		// Umgebende Rechtecke und Enden der Teilbäume von unten nach oben
+		for (int i = n - 1; i >= 0; i--) {
+			float lr = x[i];
+			float rr = x[i];
+			float u = y[i];
+			int e = i + 1;
+			for (int seite = 0; seite < 2; seite++) {
+				int k = seite == 0 ? links[i] : rechts[i];
+				if (k >= 0) {
+					lr = Math.min(lr, linkerRand[k]);
+					rr = Math.max(rr, rechterRand[k]);
+					u = Math.max(u, unten[k]);
+					e = Math.max(e, ende[k]);
+				}
+			}
+			linkerRand[i] = lr;
+			rechterRand[i] = rr;
+			unten[i] = u;
+			ende[i] = e;
+		}
+	}
+
+	/**
+	 * Sucht den Knoten, in dessen Kreis mit dem übergebenen Radius der Punkt
+	 * liegt. Dabei werden nur Teilbäume untersucht, deren umgebendes Rechteck
+	 * den Punkt enthält.
+	 *
+	 * @param px     Die x-Koordinate des Punktes.
+	 * @param py     Die y-Koordinate des Punktes.
+	 * @param radius Der Radius eines Knotens.
+	 * @return Die Nummer des Knotens oder -1, wenn kein Knoten getroffen wird.
+	 */
+	int finden(float px, float py, float radius) {
+		if (anzahl == 0) {
+			return -1;
+		}
+		int[] offen = new int[32];
+		int groesse = 0;
+		offen[groesse++] = 0;
+		while (groesse > 0) {
+			int i = offen[--groesse];
+			if (px < linkerRand[i] - radius || px > rechterRand[i] + radius || py < y[i] - radius
+					|| py > unten[i] + radius) {
+				continue;
+			}
+			float dx = px - x[i];
+			float dy = py - y[i];
+			if (dx * dx + dy * dy <= radius * radius) {
+				return i;
+			}
+			if (groesse + 2 > offen.length) {
+				offen = Arrays.copyOf(offen, offen.length * 2);
+			}
+			if (rechts[i] >= 0) {
+				offen[groesse++] = rechts[i];
+			}
+			if (links[i] >= 0) {
+				offen[groesse++] = links[i];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gibt die Anzahl der Knoten zurück.
+	 *
+	 * @return Die Anzahl der Knoten, 0 für einen leeren Baum.
+	 */
+	int size() {
+		return anzahl;
+	}
+
+	BinTree getKnoten(int i) {
+		return knoten[i];
+	}
+
+	int getLinks(int i) {
+		return links[i];
+	}
+
+	int getRechts(int i) {
+		return rechts[i];
+	}
+
+	int getEnde(int i) {
+		return ende[i];
+	}
+
+	float getX(int i) {
+		return x[i];
+	}
+
+	float getY(int i) {
+		return y[i];
+	}
+
+	float getLinkerRand(int i) {
+		return linkerRand[i];
+	}
+
+	float getRechterRand(int i) {
+		return rechterRand[i];
+	}
+
+	float getUnten(int i) {
+		return unten[i];
+	}
+
+	/**
+	 * Nummeriert die Knoten in Preorder, trägt die Kinder ein und setzt die
+	 * y-Koordinaten.
+	 */
+	private void nummerieren(BinTree wurzel) {
+		sichern(wurzel.size());
+		BinTree[] stapel = new BinTree[32];
+		int[] elternStapel = new int[32];
+		int groesse = 0;
+		stapel[groesse] = wurzel;
+		elternStapel[groesse++] = -1;
+		while (groesse > 0) {
+			groesse--;
+			BinTree k = stapel[groesse];
+			int eltern = elternStapel[groesse];
+			stapel[groesse] = null;
+			int i = anzahl++;
+			sichern(anzahl);
+			knoten[i] = k;
+			links[i] = -1;
+			rechts[i] = -1;
+			ebene[i] = eltern < 0 ? 0 : ebene[eltern] + 1;
+			y[i] = ebene[i] * EBENENABSTAND;
+			if (eltern >= 0) {
+				if (k == knoten[eltern].getLeft()) {
+					links[eltern] = i;
+				} else {
+					rechts[eltern] = i;
+				}
+			}
+			if (groesse + 2 > stapel.length) {
+				stapel = Arrays.copyOf(stapel, stapel.length * 2);
+				elternStapel = Arrays.copyOf(elternStapel, elternStapel.length * 2);
+			}
+			if (BinTreeTraversal.vorhanden(k.getRight())) {
+				stapel[groesse] = k.getRight();
+				elternStapel[groesse++] = i;
+			}
+			if (BinTreeTraversal.vorhanden(k.getLeft())) {
+				stapel[groesse] = k.getLeft();
+				elternStapel[groesse++] = i;
+			}
+		}
+		Arrays.fill(knoten, anzahl, knoten.length, null); // alte Verweise freigeben
+	}
+
+	/**
+	 * Vergrößert die Felder, falls sie weniger als {@code benoetigt} Knoten
+	 * fassen.
+	 */
+	private void sichern(int benoetigt) {
+		if (benoetigt <= knoten.length) {
+			return;
+		}
+		int neu = Math.max(benoetigt, knoten.length * 2);
+		knoten = Arrays.copyOf(knoten, neu);
+		links = Arrays.copyOf(links, neu);
+		rechts = Arrays.copyOf(rechts, neu);
+		ende = Arrays.copyOf(ende, neu);
+		ebene = Arrays.copyOf(ebene, neu);
+		x = Arrays.copyOf(x, neu);
+		y = Arrays.copyOf(y, neu);
+		linkerRand = Arrays.copyOf(linkerRand, neu);
+		rechterRand = Arrays.copyOf(rechterRand, neu);
+		unten = Arrays.copyOf(unten, neu);
+	}
+}
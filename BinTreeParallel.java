@@ -0,0 +1,252 @@
+package adt;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Hilfsklasse für die parallelen Operationen des {@link BinTree}. Die Arbeit
+ * wird im gemeinsamen ForkJoinPool an den Teilbäumen aufgeteilt, bis ein
+ * Teilbaum höchstens {@code schwelle} Knoten hat; solche Teilbäume werden mit
+ * {@link BinTreeTraversal} nacheinander abgearbeitet. Die Größe eines
+ * Teilbaums ist im BinTree gespeichert und kostet daher nichts.
+ * <p>
+ * Eine Aufgabe gibt an jedem Knoten den kleineren Teilbaum als neue Aufgabe ab
+ * und läuft selbst im größeren weiter. So bleibt die Schachtelung der Aufgaben
+ * auch bei entarteten Bäumen logarithmisch. Die Reihenfolge, in der
+ * Teilergebnisse verknüpft werden, ist dadurch allerdings nicht festgelegt.
+ */
+final class BinTreeParallel {
+
+	/**
+	 * Voreingestellte Anzahl Knoten, ab der ein Teilbaum nicht weiter aufgeteilt
+	 * wird.
+	 */
+	static final int SCHWELLE = 8192;
+
+	private BinTreeParallel() {
+	}
+
+	static int groesse(BinTree wurzel, int schwelle) {
+		wurzel.nachfuehren(); // Anzahlen vor dem Aufteilen nachholen, danach wird nur noch gelesen
+		return new Aufteilung<>(wurzel, new Auftrag<Integer>(0, schwelle) {
+			@Override
+			Integer knoten(BinTree k) {
+				return 1;
+			}
+
+			@Override
+			Integer sequentiell(BinTree k) {
+				int[] n = { 0 };
+				new BinTreeTraversal().preOrder(k, b -> n[0]++);
+				return n[0];
+			}
+
+			@Override
+			Integer verknuepfen(Integer a, Integer b) {
+				return a + b;
+			}
+		}).invoke();
+	}
+
+	static <R> R reduzieren(BinTree wurzel, R identitaet, Function<? super BinTree.Inhalt, ? extends R> abbildung,
+			BinaryOperator<R> verknuepfung, int schwelle) {
+		wurzel.nachfuehren();
+		return new Aufteilung<>(wurzel, new Auftrag<R>(identitaet, schwelle) {
+			@Override
+			R knoten(BinTree k) {
+				return abbildung.apply(k.inhalt());
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			R sequentiell(BinTree k) {
+				Object[] ergebnis = { identitaet };
+				new BinTreeTraversal().preOrder(k,
+						b -> ergebnis[0] = verknuepfung.apply((R) ergebnis[0], abbildung.apply(b.inhalt())));
+				return (R) ergebnis[0];
+			}
+
+			@Override
+			R verknuepfen(R a, R b) {
+				return verknuepfung.apply(a, b);
+			}
+		}).invoke();
+	}
+
+	static BinTree suchen(BinTree wurzel, Predicate<? super BinTree.Inhalt> bedingung, int schwelle) {
+		wurzel.nachfuehren();
+		return new Aufteilung<>(wurzel, new Auftrag<BinTree>(null, schwelle) {
+			private volatile boolean gefunden = false; // alle Aufgaben brechen ab, sobald eine fündig wird
+
+			@Override
+			BinTree knoten(BinTree k) {
+				return pruefen(k);
+			}
+
+			@Override
+			BinTree sequentiell(BinTree k) {
+				Iterator<BinTree> it = BinTreeTraversal.preOrderIterator(k);
+				while (it.hasNext() && !gefunden) {
+					BinTree treffer = pruefen(it.next());
+					if (treffer != null) {
+						return treffer;
+					}
+				}
+				return null;
+			}
+
+			@Override
+			BinTree verknuepfen(BinTree a, BinTree b) {
+				return a != null ? a : b;
+			}
+
+			@Override
+			boolean abgebrochen() {
+				return gefunden;
+			}
+
+			private BinTree pruefen(BinTree k) {
+				if (bedingung.test(k.inhalt())) {
+					gefunden = true;
+					return k;
+				}
+				return null;
+			}
+		}).invoke();
+	}
+
+	static int hoehe(BinTree wurzel, int schwelle) {
+		wurzel.nachfuehren();
+		Hoehe h = new Hoehe(wurzel, schwelle, 0);
+		h.invoke();
+		return h.tiefe;
+	}
+
+	/**
+	 * Beschreibt, was an einem einzelnen Knoten und in einem kleinen Teilbaum zu
+	 * berechnen ist und wie Teilergebnisse verknüpft werden.
+	 */
+	private abstract static class Auftrag<R> {
+		final R identitaet;
+		final int schwelle;
+
+		Auftrag(R identitaet, int schwelle) {
+			this.identitaet = identitaet;
+			this.schwelle = Math.max(schwelle, 1);
+		}
+
+		abstract R knoten(BinTree k);
+
+		abstract R sequentiell(BinTree k);
+
+		abstract R verknuepfen(R a, R b);
+
+		boolean abgebrochen() {
+			return false;
+		}
+	}
+
+	/**
+	 * Aufgabe, die einen Teilbaum nach einem Auftrag auswertet.
+	 */
+	@SuppressWarnings("serial")
+	private static class Aufteilung<R> extends RecursiveTask<R> {
+		private final BinTree start;
+		private final Auftrag<R> auftrag;
+
+		Aufteilung(BinTree start, Auftrag<R> auftrag) {
+			this.start = start;
+			this.auftrag = auftrag;
+		}
+
+		@Override
+		protected R compute() {
+			R ergebnis = auftrag.identitaet;
+			List<Aufteilung<R>> abgegeben = new ArrayList<>();
+			BinTree k = start;
+			while (BinTreeTraversal.vorhanden(k) && !auftrag.abgebrochen()) {
+				if (k.size() <= auftrag.schwelle) {
+					ergebnis = auftrag.verknuepfen(ergebnis, auftrag.sequentiell(k));
+					break;
+				}
+				ergebnis = auftrag.verknuepfen(ergebnis, auftrag.knoten(k));
+				BinTree kleiner = kleiner(k);
+				if (BinTreeTraversal.vorhanden(kleiner)) {
+					Aufteilung<R> t = new Aufteilung<>(kleiner, auftrag);
+					t.fork();
+					abgegeben.add(t);
+				}
+				k = kleiner == k.getLeft() ? k.getRight() : k.getLeft();
+			}
+			for (Aufteilung<R> t : abgegeben) {
+				ergebnis = auftrag.verknuepfen(ergebnis, t.join());
+			}
+			return ergebnis;
+		}
+	}
+
+	/**
+	 * Aufgabe, die die Tiefe eines Teilbaums bestimmt. Jede Aufgabe kennt die
+	 * Ebene, in der ihr Teilbaum hängt, und legt die Tiefe bis zu seinem
+	 * tiefsten Blatt als int ab, damit beim Verknüpfen nichts geboxt wird.
+	 */
+	@SuppressWarnings("serial")
+	private static class Hoehe extends RecursiveAction {
+		private final BinTree start;
+		private final int schwelle;
+		private final int versatz; // Anzahl der Ebenen oberhalb von start
+		int tiefe;
+
+		Hoehe(BinTree start, int schwelle, int versatz) {
+			this.start = start;
+			this.schwelle = Math.max(schwelle, 1);
+			this.versatz = versatz;
+		}
+
+		@Override
+		protected void compute() {
+			int tiefe = versatz;
+			int ebene = versatz; // Anzahl der Ebenen oberhalb von k
+			List<Hoehe> abgegeben = new ArrayList<>();
+			BinTree k = start;
+			while (BinTreeTraversal.vorhanden(k)) {
+				if (k.size() <= schwelle) {
+					tiefe = Math.max(tiefe, ebene + new BinTreeTraversal().tiefe(k));
+					break;
+				}
+				tiefe = Math.max(tiefe, ebene + 1);
+				BinTree kleiner = kleiner(k);
+				if (BinTreeTraversal.vorhanden(kleiner)) {
+					Hoehe t = new Hoehe(kleiner, schwelle, ebene + 1);
+					t.fork();
+					abgegeben.add(t);
+				}
+				k = kleiner == k.getLeft() ? k.getRight() : k.getLeft();
+				ebene++;
+			}
+			for (Hoehe t : abgegeben) {
+				t.join();
+				tiefe = Math.max(tiefe, t.tiefe);
+			}
+			this.tiefe = tiefe;
+		}
+	}
+
+	/**
+	 * Bestimmt den Teilbaum von k mit weniger Knoten; er wird abgegeben, im
+	 * anderen wird weitergearbeitet.
+	 */
+	private static BinTree kleiner(BinTree k) {
+		BinTree l = k.getLeft();
+		BinTree r = k.getRight();
+		int nl = BinTreeTraversal.vorhanden(l) ? l.size() : 0;
+		int nr = BinTreeTraversal.vorhanden(r) ? r.size() : 0;
+		return nl <= nr ? l : r;
+	}
+}
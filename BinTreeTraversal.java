@@ -0,0 +1,380 @@
+package adt;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Die Klasse {@code BinTreeTraversal} durchläuft einen {@link BinTree} in
+ * Preorder, Inorder, Postorder oder Levelorder, ohne Rekursion zu verwenden.
+ * Statt des Aufrufstapels wird ein eigenes Feld als Stapel (bzw. bei der
+ * Levelorder als Ringpuffer) benutzt. Damit lassen sich auch entartete Bäume
+ * mit Millionen von Knoten durchlaufen, ohne dass ein
+ * {@link StackOverflowError} auftritt.
+ * <p>
+ * Ein Traversal-Objekt behält sein Feld zwischen den Durchläufen. Wird es
+ * wiederverwendet, legt ein Durchlauf keine Objekte an; das Feld wächst nur,
+ * wenn ein Baum tiefer (bzw. breiter) ist als alle bisherigen. Ein Objekt darf
+ * daher weder von mehreren Threads gleichzeitig noch aus einem Besucher heraus
+ * erneut benutzt werden.
+ * <p>
+ * Wie bei {@link BinTree#getTiefe()} gilt ein Teilbaum ohne Inhalt als leer:
+ * er wird samt seinen Kindern übersprungen.
+ */
+public class BinTreeTraversal {
+
+	private BinTree[] knoten = new BinTree[32];
+	private int[] ebenen = new int[32];
+
+	/**
+	 * Besucht alle Knoten in Preorder (Wurzel, links, rechts).
+	 *
+	 * @param wurzel   Der zu durchlaufende Baum.
+	 * @param besucher Wird für jeden Knoten aufgerufen.
+	 */
+	public void preOrder(BinTree wurzel, Consumer<? super BinTree> besucher) {
+		if (!vorhanden(wurzel)) {
+			return;
+		}
+		int groesse = 0;
+		knoten[groesse++] = wurzel;
+		while (groesse > 0) {
+			BinTree k = knoten[--groesse];
+			knoten[groesse] = null;
+			besucher.accept(k);
+			if (vorhanden(k.getRight())) {
+				sichern(groesse + 1);
+				knoten[groesse++] = k.getRight();
+			}
+			if (vorhanden(k.getLeft())) {
+				sichern(groesse + 1);
+				knoten[groesse++] = k.getLeft();
+			}
+		}
+	}
+
+	/**
+	 * Besucht alle Knoten in Inorder (links, Wurzel, rechts).
+	 *
+	 * @param wurzel   Der zu durchlaufende Baum.
+	 * @param besucher Wird für jeden Knoten aufgerufen.
+	 */
+	public void inOrder(BinTree wurzel, Consumer<? super BinTree> besucher) {
+		int groesse = 0;
+		BinTree k = wurzel;
+		while (vorhanden(k) || groesse > 0) {
+			while (vorhanden(k)) {
+				sichern(groesse + 1);
+				knoten[groesse++] = k;
+				k = k.getLeft();
+			}
+			k = knoten[--groesse];
+			knoten[groesse] = null;
+			besucher.accept(k);
+			k = k.getRight();
+		}
+	}
+
+	/**
+	 * Besucht alle Knoten in Postorder (links, rechts, Wurzel).
+	 *
+	 * @param wurzel   Der zu durchlaufende Baum.
+	 * @param besucher Wird für jeden Knoten aufgerufen.
+	 */
+	public void postOrder(BinTree wurzel, Consumer<? super BinTree> besucher) {
+		int groesse = 0;
+		BinTree k = wurzel;
+		BinTree zuletzt = null;
+		while (vorhanden(k) || groesse > 0) {
+			if (vorhanden(k)) {
+				sichern(groesse + 1);
+				knoten[groesse++] = k;
+				k = k.getLeft();
+			} else {
+				BinTree oben = knoten[groesse - 1];
+				BinTree rechts = oben.getRight();
+				if (vorhanden(rechts) && rechts != zuletzt) {
+					k = rechts; // rechten Teilbaum noch abarbeiten
+				} else {
+					besucher.accept(oben);
+					zuletzt = oben;
+					knoten[--groesse] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Besucht alle Knoten ebenenweise von oben nach unten und innerhalb einer
+	 * Ebene von links nach rechts.
+	 *
+	 * @param wurzel   Der zu durchlaufende Baum.
+	 * @param besucher Wird für jeden Knoten aufgerufen.
+	 */
+	public void levelOrder(BinTree wurzel, Consumer<? super BinTree> besucher) {
+		if (!vorhanden(wurzel)) {
+			return;
+		}
+		int kopf = 0;
+		int groesse = 1;
+		knoten[0] = wurzel;
+		while (groesse > 0) {
+			BinTree k = knoten[kopf];
+			knoten[kopf] = null;
+			kopf = (kopf + 1) % knoten.length;
+			groesse--;
+			besucher.accept(k);
+			for (int seite = 0; seite < 2; seite++) {
+				BinTree kind = seite == 0 ? k.getLeft() : k.getRight();
+				if (vorhanden(kind)) {
+					if (groesse == knoten.length) {
+						knoten = ringVergroessern(knoten, kopf);
+						kopf = 0;
+					}
+					knoten[(kopf + groesse) % knoten.length] = kind;
+					groesse++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Bestimmt die Tiefe des Baumes (Anzahl der Ebenen) ohne Rekursion.
+	 *
+	 * @param wurzel Der zu untersuchende Baum.
+	 * @return Die Tiefe des Baumes, 0 für einen leeren Baum.
+	 */
+	public int tiefe(BinTree wurzel) {
+		if (!vorhanden(wurzel)) {
+			return 0;
+		}
+		int tiefe = 0;
+		int groesse = 0;
+		knoten[groesse] = wurzel;
+		ebenen[groesse++] = 1;
+		while (groesse > 0) {
+			groesse--;
+			BinTree k = knoten[groesse];
+			int ebene = ebenen[groesse];
+			knoten[groesse] = null;
+			tiefe = Math.max(tiefe, ebene);
+			if (vorhanden(k.getRight())) {
+				sichern(groesse + 1);
+				knoten[groesse] = k.getRight();
+				ebenen[groesse++] = ebene + 1;
+			}
+			if (vorhanden(k.getLeft())) {
+				sichern(groesse + 1);
+				knoten[groesse] = k.getLeft();
+				ebenen[groesse++] = ebene + 1;
+			}
+		}
+		return tiefe;
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Knoten in Preorder liefert.
+	 *
+	 * @param wurzel Der zu durchlaufende Baum.
+	 * @return Ein Iterator über die Knoten.
+	 */
+	public static Iterator<BinTree> preOrderIterator(BinTree wurzel) {
+		return new StapelIterator(wurzel, Reihenfolge.PRE);
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Knoten in Inorder liefert.
+	 *
+	 * @param wurzel Der zu durchlaufende Baum.
+	 * @return Ein Iterator über die Knoten.
+	 */
+	public static Iterator<BinTree> inOrderIterator(BinTree wurzel) {
+		return new StapelIterator(wurzel, Reihenfolge.IN);
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Knoten in Postorder liefert.
+	 *
+	 * @param wurzel Der zu durchlaufende Baum.
+	 * @return Ein Iterator über die Knoten.
+	 */
+	public static Iterator<BinTree> postOrderIterator(BinTree wurzel) {
+		return new StapelIterator(wurzel, Reihenfolge.POST);
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Knoten in Levelorder liefert.
+	 *
+	 * @param wurzel Der zu durchlaufende Baum.
+	 * @return Ein Iterator über die Knoten.
+	 */
+	public static Iterator<BinTree> levelOrderIterator(BinTree wurzel) {
+		return new LevelOrderIterator(wurzel);
+	}
+
+	/**
+	 * Prüft, ob an dieser Stelle ein nicht leerer Teilbaum hängt.
+	 */
+	static boolean vorhanden(BinTree b) {
+		return b != null && b.hasItem();
+	}
+
+	/**
+	 * Vergrößert die Stapelfelder, falls sie weniger als {@code benoetigt}
+	 * Einträge fassen.
+	 */
+	private void sichern(int benoetigt) {
+		if (benoetigt > knoten.length) {
+			knoten = Arrays.copyOf(knoten, knoten.length * 2);
+		}
+		if (benoetigt > ebenen.length) {
+			ebenen = Arrays.copyOf(ebenen, ebenen.length * 2);
+		}
+	}
+
+	/**
+	 * Verdoppelt einen vollen Ringpuffer, sodass der Kopf danach an Position 0
+	 * steht.
+	 */
+	private static BinTree[] ringVergroessern(BinTree[] ring, int kopf) {
+		BinTree[] neu = new BinTree[ring.length * 2];
+		System.arraycopy(ring, kopf, neu, 0, ring.length - kopf);
+		System.arraycopy(ring, 0, neu, ring.length - kopf, kopf);
+		return neu;
+	}
+
+	private enum Reihenfolge {
+		PRE, IN, POST
+	}
+
+	/**
+	 * Iterator für Preorder, Inorder und Postorder. Er arbeitet wie die
+	 * entsprechenden Durchläufe, hält aber seinen Zustand zwischen zwei
+	 * Aufrufen von next.
+	 */
+	private static class StapelIterator implements Iterator<BinTree> {
+		private final Reihenfolge reihenfolge;
+		private BinTree[] stapel = new BinTree[32];
+		private int groesse = 0;
+		private BinTree k; // noch nicht abgestiegener Teilbaum (Inorder, Postorder)
+		private BinTree zuletzt; // zuletzt gelieferter Knoten (Postorder)
+
+		StapelIterator(BinTree wurzel, Reihenfolge reihenfolge) {
+			this.reihenfolge = reihenfolge;
+			if (reihenfolge == Reihenfolge.PRE) {
+				if (vorhanden(wurzel)) {
+					stapel[groesse++] = wurzel;
+				}
+			} else {
+				k = wurzel;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return groesse > 0 || vorhanden(k);
+		}
+
+		@Override
+		public BinTree next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			switch (reihenfolge) {
+			case PRE: {
+				BinTree n = stapel[--groesse];
+				stapel[groesse] = null;
+				if (vorhanden(n.getRight())) {
+					ablegen(n.getRight());
+				}
+				if (vorhanden(n.getLeft())) {
+					ablegen(n.getLeft());
+				}
+				return n;
+			}
+			case IN: {
+				while (vorhanden(k)) {
+					ablegen(k);
+					k = k.getLeft();
+				}
+				BinTree n = stapel[--groesse];
+				stapel[groesse] = null;
+				k = n.getRight();
+				return n;
+			}
+			default: {
+				while (true) {
+					if (vorhanden(k)) {
+						ablegen(k);
+						k = k.getLeft();
+					} else {
+						BinTree oben = stapel[groesse - 1];
+						BinTree rechts = oben.getRight();
+						if (vorhanden(rechts) && rechts != zuletzt) {
+							k = rechts;
+						} else {
+							stapel[--groesse] = null;
+							zuletzt = oben;
+							return oben;
+						}
+					}
+				}
+			}
+			}
+		}
+
+		private void ablegen(BinTree b) {
+			if (groesse == stapel.length) {
+				stapel = Arrays.copyOf(stapel, stapel.length * 2);
+			}
+			stapel[groesse++] = b;
+		}
+	}
+
+	/**
+	 * Iterator für die Levelorder mit einem Ringpuffer als Schlange.
+	 */
+	private static class LevelOrderIterator implements Iterator<BinTree> {
+		private BinTree[] ring = new BinTree[32];
+		private int kopf = 0;
+		private int groesse = 0;
+
+		LevelOrderIterator(BinTree wurzel) {
+			if (vorhanden(wurzel)) {
+				ring[groesse++] = wurzel;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return groesse > 0;
+		}
+
+		@Override
+		public BinTree next() {
+			if (groesse == 0) {
+				throw new NoSuchElementException();
+			}
+			BinTree n = ring[kopf];
+			ring[kopf] = null;
+			kopf = (kopf + 1) % ring.length;
+			groesse--;
+			anhaengen(n.getLeft());
+			anhaengen(n.getRight());
+			return n;
+		}
+
+		private void anhaengen(BinTree b) {
+			if (!vorhanden(b)) {
+				return;
+			}
+			if (groesse == ring.length) {
+				ring = ringVergroessern(ring, kopf);
+				kopf = 0;
+			}
+			ring[(kopf + groesse) % ring.length] = b;
+			groesse++;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package adt;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Implementierung der Klasse ConcurrentQueue (nebenläufige Schlange):
+ * <p>
+ * Die ConcurrentQueue bietet die Operationen der {@link Queue}, kann aber von
+ * beliebig vielen Threads gleichzeitig benutzt werden, ohne dass eine Sperre
+ * nötig ist. Sie folgt dem Verfahren von Michael und Scott: Die Item-Kette
+ * beginnt mit einem Platzhalter-Item, Kopf und Ende werden ausschließlich mit
+ * compareAndSet weitergesetzt. Ein Thread, der ein halb abgeschlossenes enqueue
+ * eines anderen Threads bemerkt, setzt das Ende selbst nach.
+ * <p>
+ * Anders als bei der Queue liefern dequeue und head bei einer leeren Schlange
+ * null, weil ein Thread die Leere nicht vorab mit isEmpty sicher feststellen
+ * kann. Inhalte dürfen daher nicht null sein.
+ *
+ * @param <T> Der Datentyp der in der Schlange gespeicherten Elemente.
+ */
+public class ConcurrentQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle BACK;
+    private static final VarHandle NEXT;
+    private static final VarHandle DATA;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentQueue.class, "head", Item.class);
+            BACK = lookup.findVarHandle(ConcurrentQueue.class, "back", Item.class);
+            NEXT = lookup.findVarHandle(Item.class, "next", Item.class);
+            DATA = lookup.findVarHandle(Item.class, "data", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Platzhalter-Item vor dem ersten Element der Schlange.
+     */
+    private volatile Item<T> head;
+    /**
+     * Zur Verwaltung des letzten Elements der Schlange. Kann kurzzeitig um ein
+     * Item hinterherhinken.
+     */
+    private volatile Item<T> back;
+
+    /**
+     * Eine leere Schlange wird angelegt.
+     */
+    public ConcurrentQueue() {
+        Item<T> platzhalter = new Item<>(null);
+        head = platzhalter;
+        back = platzhalter;
+    }
+
+    /**
+     * Überprüft, ob die Schlange leer ist. Das Ergebnis kann bereits veraltet
+     * sein, wenn andere Threads die Schlange gleichzeitig verändern.
+     *
+     * @return {@code true}, wenn die Schlange leer ist, {@code false} sonst.
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück, ohne es zu
+     * entfernen.
+     *
+     * @return Der Inhalt des ersten Elements oder null, wenn die Schlange leer ist.
+     */
+    @SuppressWarnings("unchecked")
+    public T head() {
+        while (true) {
+            Item<T> h = head;
+            Item<T> erstes = h.next;
+            if (erstes == null) {
+                return null;
+            }
+            // Sieht dieses Lesen schon das Löschen aus dequeue, sieht das folgende
+            // Lesen von head auch den neuen Kopf, und der Versuch wird wiederholt.
+            T data = (T) DATA.getAcquire(erstes);
+            if (h == head) { // Kopf unverändert, data gehört noch zur Schlange
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück und entfernt es.
+     *
+     * @return Der Inhalt des entfernten Elements oder null, wenn die Schlange
+     *         leer ist.
+     */
+    public T dequeue() {
+        while (true) {
+            Item<T> h = head;
+            Item<T> b = back;
+            Item<T> erstes = h.next;
+            if (h != head) {
+                continue;
+            }
+            if (erstes == null) {
+                return null;
+            }
+            if (h == b) { // Ende hinkt hinterher: nachsetzen und erneut versuchen
+                BACK.compareAndSet(this, b, erstes);
+                continue;
+            }
+            T data = erstes.data;
+            if (HEAD.compareAndSet(this, h, erstes)) {
+                DATA.setRelease(erstes, null); // erstes ist jetzt der Platzhalter
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Fügt ein neues Element mit dem übergebenen Inhalt am Ende der Schlange hinzu.
+     *
+     * @param d Der Inhalt des neuen Elements (nicht null).
+     */
+    public void enqueue(T d) {
+        Item<T> i = new Item<>(d);
+        while (true) {
+            Item<T> b = back;
+            Item<T> naechstes = b.next;
+            if (b != back) {
+                continue;
+            }
+            if (naechstes != null) { // anderes enqueue noch nicht abgeschlossen
+                BACK.compareAndSet(this, b, naechstes);
+                continue;
+            }
+            if (NEXT.compareAndSet(b, null, i)) {
+                BACK.compareAndSet(this, b, i); // darf fehlschlagen, dann setzt ein anderer nach
+                return;
+            }
+        }
+    }
+
+    /**
+     * Klasse Item zur internen Verwaltung der einzelnen Elemente der Schlange.
+     */
+    private static class Item<T> {
+        /**
+         * Der Inhalt des Elements.
+         */
+        T data;
+        /**
+         * Verweis auf das nachfolgende Element.
+         */
+        volatile Item<T> next;
+
+        /**
+         * Erzeugt ein neues Item mit dem gegebenen Inhalt.
+         *
+         * @param d Der Inhalt des Items.
+         */
+        Item(T d) {
+            data = d;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package adt;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementierung der Klasse ConcurrentStack (nebenläufiger Stapel):
+ * <p>
+ * Der ConcurrentStack bietet die Operationen des {@link Stack}, kann aber von
+ * beliebig vielen Threads gleichzeitig benutzt werden, ohne dass eine Sperre
+ * nötig ist. Er folgt dem Verfahren von Treiber: Das oberste Item wird nur mit
+ * compareAndSet ausgetauscht.
+ * <p>
+ * Scheitert ein compareAndSet, weil andere Threads gleichzeitig zugreifen,
+ * weicht der Thread auf ein Eliminationsfeld aus: Ein push1 legt sein Item
+ * kurz in einem zufälligen Platz ab, ein gleichzeitiges pop1 kann es dort
+ * direkt übernehmen. Solche push/pop-Paare heben sich auf, ohne das oberste
+ * Item überhaupt zu berühren.
+ * <p>
+ * Anders als beim Stack liefern pop1 und top bei einem leeren Stapel null,
+ * weil ein Thread die Leere nicht vorab mit isEmpty sicher feststellen kann.
+ * Inhalte dürfen daher nicht null sein.
+ *
+ * @param <T> Der Typ der im Stack gespeicherten Elemente.
+ */
+public class ConcurrentStack<T> {
+	private static final VarHandle TOP;
+
+	static {
+		try {
+			TOP = MethodHandles.lookup().findVarHandle(ConcurrentStack.class, "top", Item.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Anzahl der Warteschritte, die ein push1 im Eliminationsfeld auf einen
+	 * Partner wartet.
+	 */
+	private static final int WARTESCHRITTE = 64;
+
+	/**
+	 * Zur Verwaltung des obersten Elements des Stapels.
+	 */
+	private volatile Item<T> top;
+	/**
+	 * Eliminationsfeld: Plätze, in denen ein push1 sein Item einem pop1 anbietet.
+	 */
+	private final AtomicReferenceArray<Item<T>> elimination;
+
+	/**
+	 * Ein leerer Stapel wird angelegt.
+	 */
+	public ConcurrentStack() {
+		top = null;
+		int plaetze = Math.min(Math.max(Runtime.getRuntime().availableProcessors() / 2, 1), 16);
+		elimination = new AtomicReferenceArray<>(plaetze);
+	}
+
+	/**
+	 * Wenn der Stapel kein Element besitzt, wird der Wert wahr zurückgegeben, sonst
+	 * der Wert falsch. Das Ergebnis kann bereits veraltet sein, wenn andere
+	 * Threads den Stapel gleichzeitig verändern.
+	 *
+	 * @return true wenn der Stapel leer ist, false sonst.
+	 */
+	public boolean isEmpty() {
+		return top == null;
+	}
+
+	/**
+	 * Der Inhalt des obersten Element des Stapels wird zurückgegeben, das Element
+	 * aber nicht aus dem Stapel entfernt.
+	 *
+	 * @return Der Inhalt des obersten Elements oder null, wenn der Stapel leer ist.
+	 */
+	public T top() {
+		Item<T> t = top;
+		return t == null ? null : t.data;
+	}
+
+	/**
+	 * Der Inhalt des obersten Elements des Stapels wird zurückgegeben und das
+	 * Element dabei vom Stapel entfernt.
+	 *
+	 * @return Der Inhalt des entfernten Elements oder null, wenn der Stapel leer
+	 *         ist.
+	 */
+	public T pop1() {
+		while (true) {
+			Item<T> t = top;
+			if (t == null) {
+				return null;
+			}
+			if (TOP.compareAndSet(this, t, t.below)) {
+				return t.data;
+			}
+			Item<T> partner = popEliminieren();
+			if (partner != null) {
+				return partner.data;
+			}
+		}
+	}
+
+	/**
+	 * Ein neues Element mit dem übergebenen Inhalt wird auf dem Stapel abgelegt.
+	 *
+	 * @param d Der Inhalt des neuen Elements (nicht null).
+	 */
+	public void push1(T d) {
+		Item<T> i = new Item<>(d);
+		while (true) {
+			Item<T> t = top;
+			i.below = t;
+			if (TOP.compareAndSet(this, t, i)) {
+				return;
+			}
+			if (pushEliminieren(i)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Bietet das Item eines push1 in einem zufälligen Platz des
+	 * Eliminationsfeldes an und wartet kurz auf ein pop1.
+	 *
+	 * @param i Das abzulegende Item.
+	 * @return true, wenn ein pop1 das Item übernommen hat.
+	 */
+	private boolean pushEliminieren(Item<T> i) {
+		int platz = ThreadLocalRandom.current().nextInt(elimination.length());
+		if (!elimination.compareAndSet(platz, null, i)) {
+			return false; // Platz belegt, wieder den Stapel versuchen
+		}
+		for (int k = 0; k < WARTESCHRITTE; k++) {
+			if (elimination.get(platz) != i) {
+				return true;
+			}
+			Thread.onSpinWait();
+		}
+		// Kein Partner gefunden: Angebot zurückziehen, falls es noch dort liegt
+		return !elimination.compareAndSet(platz, i, null);
+	}
+
+	/**
+	 * Versucht, einem wartenden push1 sein Item aus einem zufälligen Platz des
+	 * Eliminationsfeldes abzunehmen.
+	 *
+	 * @return Das übernommene Item oder null, wenn dort keines angeboten wurde.
+	 */
+	private Item<T> popEliminieren() {
+		int platz = ThreadLocalRandom.current().nextInt(elimination.length());
+		Item<T> angebot = elimination.get(platz);
+		if (angebot != null && elimination.compareAndSet(platz, angebot, null)) {
+			return angebot;
+		}
+		return null;
+	}
+
+	/**
+	 * Klasse Item zur internen Verwaltung der einzelnen Elemente des Stacks
+	 */
+	private static class Item<T> {
+		/**
+		 * Die im Item gespeicherten Daten.
+		 */
+		final T data;
+		/**
+		 * Verweis auf das nachfolgende "darunter liegende" Element. Wird vor dem
+		 * Veröffentlichen gesetzt und danach nicht mehr verändert.
+		 */
+		Item<T> below;
+
+		/**
+		 * Konstruktor für ein neues Item.
+		 *
+		 * @param d Die im Item zu speichernden Daten.
+		 */
+		Item(T d) {
+			data = d;
+			below = null;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package adt;
+
+import java.util.Arrays;
+
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.core.PStyle;
+
+/**
+ * Puffer für die Visualisierungen in {@link GUI} und {@link BinTreeGUI}. Eine
+ * Darstellung wird einmal in ein unsichtbares {@code PGraphics} in der Größe
+ * des Sketches gezeichnet und danach in jedem Frame nur noch als Bild auf den
+ * Sketch kopiert. Neu gezeichnet wird erst, wenn sich der Stand ändert, den der
+ * Aufrufer übergibt (z. B. der Änderungszähler der Datenstruktur und die
+ * Position der Darstellung), wenn sich die Stileinstellungen des Sketches vor
+ * dem Zeichnen ändern (z. B. durch fill, stroke oder textFont) oder wenn sich
+ * der Sketch bzw. seine Größe ändert.
+ * <p>
+ * Beim Neuzeichnen übernimmt der Puffer die aktuellen Stileinstellungen des
+ * Sketches (Farben, Schrift, Ausrichtung), damit die Darstellung so aussieht,
+ * als wäre direkt auf den Sketch gezeichnet worden. Umgekehrt erhält der Sketch
+ * nach dem Kopieren die Stileinstellungen, die am Ende des Zeichnens im Puffer
+ * galten, so wie er sie auch beim direkten Zeichnen gehabt hätte.
+ */
+final class DrawBuffer {
+
+    private PGraphics buffer;
+    private PApplet sketch;
+    private double[] state; // Stand, zu dem der Pufferinhalt gehört
+    private double[] pending; // Stand der gerade laufenden Zeichnung
+    private PStyle startStyle; // Stileinstellungen des Sketches vor dem Zeichnen
+    private PStyle endStyle; // Stileinstellungen am Ende des Zeichnens
+
+    /**
+     * Prüft, ob der Puffer zum übergebenen Stand passt. Ist das nicht der Fall,
+     * wird er geleert und zum Zeichnen geöffnet zurückgegeben; nach dem Zeichnen
+     * muss {@link #end()} aufgerufen werden.
+     *
+     * @param p        Der Sketch, auf dem die Darstellung erscheinen soll.
+     * @param newState Alle Werte, von denen die Darstellung abhängt.
+     * @return Der zu füllende Puffer oder null, wenn er noch aktuell ist.
+     */
+    PGraphics begin(PApplet p, double... newState) {
+        boolean sameSize = buffer != null && sketch == p && buffer.width == p.width && buffer.height == p.height;
+        PStyle style = p.g.getStyle();
+        if (sameSize && Arrays.equals(state, newState) && sameStyle(startStyle, style)) {
+            return null;
+        }
+        if (!sameSize) {
+            buffer = p.createGraphics(p.width, p.height);
+            sketch = p;
+        }
+        state = null;
+        pending = newState;
+        startStyle = style;
+        buffer.beginDraw();
+        buffer.clear();
+        buffer.style(style);
+        return buffer;
+    }
+
+    /**
+     * Schließt das Zeichnen in den Puffer ab. Erst danach gilt der Puffer als
+     * aktuell.
+     */
+    void end() {
+        endStyle = buffer.getStyle();
+        buffer.endDraw();
+        state = pending;
+    }
+
+    /**
+     * Kopiert den Pufferinhalt in die linke obere Ecke des Sketches und
+     * übernimmt die Stileinstellungen vom Ende des Zeichnens.
+     *
+     * @param p Der Sketch.
+     */
+    void show(PApplet p) {
+        p.imageMode(PApplet.CORNER);
+        p.noTint();
+        p.image(buffer, 0, 0);
+        p.style(endStyle);
+    }
+
+    /**
+     * Vergleicht die Stileinstellungen, die sich auf eine 2D-Darstellung
+     * auswirken.
+     */
+    private static boolean sameStyle(PStyle a, PStyle b) {
+        return a != null && a.fill == b.fill && a.fillColor == b.fillColor && a.stroke == b.stroke
+                && a.strokeColor == b.strokeColor && a.strokeWeight == b.strokeWeight && a.strokeCap == b.strokeCap
+                && a.strokeJoin == b.strokeJoin && a.tint == b.tint && a.tintColor == b.tintColor
+                && a.textFont == b.textFont && a.textSize == b.textSize && a.textLeading == b.textLeading
+                && a.textAlign == b.textAlign && a.textAlignY == b.textAlignY && a.textMode == b.textMode
+                && a.rectMode == b.rectMode && a.ellipseMode == b.ellipseMode && a.imageMode == b.imageMode
+                && a.shapeMode == b.shapeMode && a.blendMode == b.blendMode;
+    }
+}
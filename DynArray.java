@@ -1,5 +1,14 @@
 package adt;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import processing.core.PApplet;
 
 /**
@@ -25,6 +34,22 @@ import processing.core.PApplet;
  * benötigt beim Zugriff auf die dynamische Reihung dann aber häufig
  * Typecasting.
  *
+ * Neben der verketteten Speicherung über Element-Objekte kann ein DynArray
+ * auch feldbasiert angelegt werden (siehe {@link #DynArray(int)}). Die Inhalte
+ * liegen dann zusammenhängend in einem wachsenden Feld, sodass getItem und
+ * setItem in O(1) und append1 amortisiert in O(1) arbeiten.
+ *
+ * In beiden Speicherformen lässt sich die Reihung in einem Durchlauf ohne
+ * Indexzugriffe durchlaufen (for-each-Schleife, {@link #stream()}).
+ *
+ * Für größere Mengen gibt es Sammeloperationen ({@link #appendAll},
+ * {@link #insertAllAt}, {@link #deleteRange}, {@link #slice}), die einen
+ * ganzen Abschnitt in einem Durchgang einhängen, entfernen oder kopieren statt
+ * Element für Element.
+ *
+ * Im verketteten Modus kann das DynArray auf Wunsch ({@link #setPoolSize(int)})
+ * gelöschte Elemente aufheben und beim nächsten Einfügen wiederverwenden.
+ *
  * @param <T> Der Typ der Elemente, die in der dynamischen Reihung gespeichert werden.
  * 
  * @author Hendrik Bodenstein (basierend auf Originalcode)
@@ -32,14 +57,21 @@ import processing.core.PApplet;
  * @author ChatGPT (Überarbeitungen und Verbesserungen)
  * @version 1.1
  */
-public class DynArray<T> {
+public class DynArray<T> implements Iterable<T> {
     // Anfang Attribute
     private int laenge;
     private Element kopf;
+    private Element ende; // letztes Element, damit append1 nicht suchen muss
+    private Element cursor; // zuletzt besuchtes Element
+    private int cursorIndex = -1; // Index des zuletzt besuchten Elements
+    private Object[] feld; // nur im feldbasierten Modus, sonst null
+    private int aenderungen; // Änderungszähler, siehe getAenderungen
+    private Element frei; // aufgehobene Elemente zur Wiederverwendung, über naechstes verkettet
+    private int freiAnzahl;
+    private int freiMax; // Höchstzahl aufgehobener Elemente, 0 schaltet das Aufheben ab
     // Ende Attribute
     
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private GUI gui = new GUI(this);
+    private GUI<T> gui; // wird erst beim ersten Zeichnen angelegt
 
     /**
      * Konstruktor für ein leeres DynArray.
@@ -47,6 +79,19 @@ public class DynArray<T> {
     public DynArray() {
         setLaenge(0);
         kopf = null;
+        ende = null;
+    }
+
+    /**
+     * Konstruktor für ein leeres, feldbasiertes DynArray. Die Inhalte werden in
+     * einem zusammenhängenden Feld gespeichert, das bei Bedarf verdoppelt wird.
+     *
+     * @param kapazitaet Die anfängliche Größe des internen Feldes.
+     */
+    public DynArray(int kapazitaet) {
+        setLaenge(0);
+        kopf = null;
+        feld = new Object[Math.max(kapazitaet, 1)];
     }
 
     // Anfang Methoden
@@ -69,13 +114,13 @@ public class DynArray<T> {
      * @param index Der Index des Elements.
      * @return Das Element am angegebenen Index oder null, wenn der Index ungültig ist.
      */
+    @SuppressWarnings("unchecked")
     public T getItem(int index) {
         if (index >= 0 && index < getLaenge()) {
-            Element aktuell = kopf;
-            for (int i = 0; i < index; i++) {
-                aktuell = aktuell.naechstes;
+            if (feld != null) {
+                return (T) feld[index];
             }
-            return aktuell.inhalt;
+            return getElement(index).inhalt;
         }
         return null;
     }
@@ -95,14 +140,22 @@ public class DynArray<T> {
      * @param inhalt Der Inhalt des hinzuzufügenden Elements.
      */
     public void append1(T inhalt) {
-        Element neu = new Element(inhalt);
+        if (feld != null) {
+            kapazitaetSichern(laenge + 1);
+            feld[laenge] = inhalt;
+            laenge++;
+            aenderungen++;
+            return;
+        }
+        Element neu = neuesElement(inhalt);
         if (isEmpty()) {
             kopf = neu;
         } else {
-            Element letzter = getElement(laenge - 1);
-            letzter.naechstes = neu;
+            ende.naechstes = neu;
         }
+        ende = neu;
         laenge++;
+        aenderungen++;
     }
 
 
@@ -113,16 +166,32 @@ public class DynArray<T> {
      * @param inhalt Der Inhalt des einzufügenden Elements.
      */
     public void insertAt(int index, T inhalt) {
+        if (feld != null) {
+            if (index >= 0 && index <= laenge) {
+                kapazitaetSichern(laenge + 1);
+                System.arraycopy(feld, index, feld, index + 1, laenge - index);
+                feld[index] = inhalt;
+                laenge++;
+                aenderungen++;
+            }
+            return;
+        }
         if (index > 0 && index < getLaenge()) { // Es wird "mittig" eingefügt
-            Element neu = new Element(inhalt);
-            Element temp = getElement(index);
-            getElement(index - 1).naechstes = neu;
-            neu.naechstes = temp;
+            Element neu = neuesElement(inhalt);
+            Element vorgaenger = getElement(index - 1); // setzt den Cursor auf index - 1
+            neu.naechstes = vorgaenger.naechstes;
+            vorgaenger.naechstes = neu;
             setLaenge(getLaenge() + 1);
         } else if (index == 0) { // Es wird vorne eingefügt
             Element temp = kopf;
-            kopf = new Element(inhalt);
+            kopf = neuesElement(inhalt);
             kopf.naechstes = temp;
+            if (temp == null) {
+                ende = kopf;
+            }
+            if (cursor != null) {
+                cursorIndex++; // alle Elemente sind um eins nach hinten gerückt
+            }
             setLaenge(getLaenge() + 1);
         } else if (index == getLaenge()) { // Es wird am Ende hinzugefügt
             append1(inhalt);
@@ -137,8 +206,14 @@ public class DynArray<T> {
      */
     public void setItem(int index, T inhalt) {
         if (index >= 0 && index < laenge) {
+            if (feld != null) {
+                feld[index] = inhalt;
+                aenderungen++;
+                return;
+            }
             Element temp = getElement(index);
             temp.inhalt = inhalt;
+            aenderungen++;
         }
     }
 
@@ -148,18 +223,21 @@ public class DynArray<T> {
      * von {@code BinTree} ist, wird der Text des Items des Baumes ausgegeben.
      * Andernfalls wird das Element direkt ausgegeben.
      * 
+     * Die Reihung wird dabei einmal durchlaufen und die Ausgabe zuerst
+     * vollständig zusammengesetzt, sodass nur ein einziger Ausgabeaufruf erfolgt.
+     * 
      * Beispielausgabe: [A,B,C,]
      */
     public void print() {
-        PApplet.print("[");
-        for (int i = 0; i < laenge; i++) {
-            if (this.getItem(i) instanceof BinTree b) {
-                PApplet.print(b.getItem().getText() + ",");
-            }else{
-                PApplet.print(this.getItem(i) + ",");
+        StringBuilder ausgabe = new StringBuilder("[");
+        for (T inhalt : this) {
+            if (inhalt instanceof BinTree b) {
+                ausgabe.append(b.getItem().getText()).append(',');
+            } else {
+                ausgabe.append(inhalt).append(',');
             }
         }
-        PApplet.print("]\n");
+        PApplet.print(ausgabe.append("]\n"));
     }
 
     /**
@@ -168,43 +246,369 @@ public class DynArray<T> {
      * @param index Der Index des zu löschenden Elements.
      */
     public void delete(int index) {
-        if (index > 0 && index < getLaenge()) { // Es wird "mittig" gelöscht
-            getElement(index - 1).naechstes = getElement(index - 1).naechstes.naechstes;
-            setLaenge(getLaenge() - 1);
-        } else if (index == getLaenge() - 1) { // Es wird das letzte Element gelöscht
-            getElement(index - 1).naechstes = null;
+        if (feld != null) {
+            if (index >= 0 && index < laenge) {
+                System.arraycopy(feld, index + 1, feld, index, laenge - index - 1);
+                laenge--;
+                aenderungen++;
+                feld[laenge] = null; // Verweis freigeben
+            }
+            return;
+        }
+        if (index > 0 && index < getLaenge()) { // Es wird "mittig" oder das letzte Element gelöscht
+            Element vorgaenger = getElement(index - 1); // setzt den Cursor auf index - 1
+            Element alt = vorgaenger.naechstes;
+            vorgaenger.naechstes = alt.naechstes;
+            zuruecklegen(alt);
+            if (vorgaenger.naechstes == null) {
+                ende = vorgaenger;
+            }
             setLaenge(getLaenge() - 1);
-        } else if (index == 0) { // Es wird das erste Element gelöscht
+        } else if (index == 0 && kopf != null) { // Es wird das erste Element gelöscht
+            Element alt = kopf;
             kopf = kopf.naechstes;
+            zuruecklegen(alt);
+            if (kopf == null) {
+                ende = null;
+            }
+            if (cursorIndex == 0) {
+                cursorZuruecksetzen();
+            } else if (cursor != null) {
+                cursorIndex--; // alle Elemente sind um eins nach vorne gerückt
+            }
             setLaenge(getLaenge() - 1);
         }
     }
 
+    /**
+     * Fügt alle übergebenen Inhalte in ihrer Reihenfolge am Ende des DynArrays
+     * hinzu.
+     *
+     * @param inhalte Die hinzuzufügenden Inhalte.
+     */
+    public void appendAll(Iterable<? extends T> inhalte) {
+        insertAllAt(laenge, inhalte);
+    }
+
+    /**
+     * Fügt alle übergebenen Inhalte in ihrer Reihenfolge ab einem bestimmten
+     * Index ein; der erste neue Inhalt steht danach an diesem Index.
+     *
+     * Im verketteten Modus werden die neuen Elemente zuerst zu einer Kette
+     * verbunden, die dann mit einem einzigen Umhängen eingefügt wird. Im
+     * feldbasierten Modus wird das Feld höchstens einmal vergrößert und der
+     * hintere Teil nur einmal verschoben.
+     *
+     * @param index Der Index, an dem eingefügt werden soll.
+     * @param inhalte Die einzufügenden Inhalte.
+     */
+    public void insertAllAt(int index, Iterable<? extends T> inhalte) {
+        if (index < 0 || index > laenge) {
+            return;
+        }
+        if (feld != null) {
+            Object[] neu = alsFeld(inhalte);
+            if (neu.length > 0) {
+                kapazitaetSichern(laenge + neu.length);
+                System.arraycopy(feld, index, feld, index + neu.length, laenge - index);
+                System.arraycopy(neu, 0, feld, index, neu.length);
+                laenge += neu.length;
+                aenderungen++;
+            }
+            return;
+        }
+        Kette kette = new Kette(inhalte);
+        if (kette.anzahl == 0) {
+            return;
+        }
+        if (index == 0) { // Es wird vorne eingefügt
+            kette.letztes.naechstes = kopf;
+            kopf = kette.erstes;
+            if (cursor != null) {
+                cursorIndex += kette.anzahl; // alle Elemente sind nach hinten gerückt
+            }
+        } else {
+            Element vorgaenger = getElement(index - 1); // setzt den Cursor auf index - 1
+            kette.letztes.naechstes = vorgaenger.naechstes;
+            vorgaenger.naechstes = kette.erstes;
+        }
+        if (kette.letztes.naechstes == null) {
+            ende = kette.letztes;
+        }
+        laenge += kette.anzahl;
+        aenderungen++;
+    }
+
+    /**
+     * Löscht alle Elemente von Index von (einschließlich) bis Index bis
+     * (ausschließlich). Ist der Bereich ungültig oder leer, geschieht nichts.
+     *
+     * @param von Der Index des ersten zu löschenden Elements.
+     * @param bis Der Index hinter dem letzten zu löschenden Element.
+     */
+    public void deleteRange(int von, int bis) {
+        if (von < 0 || bis > laenge || von >= bis) {
+            return;
+        }
+        int anzahl = bis - von;
+        if (feld != null) {
+            System.arraycopy(feld, bis, feld, von, laenge - bis);
+            Arrays.fill(feld, laenge - anzahl, laenge, null); // Verweise freigeben
+            laenge -= anzahl;
+            aenderungen++;
+            return;
+        }
+        if (von == 0) { // Es wird vorne gelöscht
+            Element nachfolger = kopf;
+            for (int i = 0; i < anzahl; i++) {
+                Element alt = nachfolger;
+                nachfolger = nachfolger.naechstes;
+                zuruecklegen(alt);
+            }
+            kopf = nachfolger;
+            if (kopf == null) {
+                ende = null;
+            }
+            if (cursorIndex < bis) {
+                cursorZuruecksetzen();
+            } else {
+                cursorIndex -= anzahl; // alle Elemente sind nach vorne gerückt
+            }
+        } else {
+            Element vorgaenger = getElement(von - 1); // setzt den Cursor auf von - 1
+            Element nachfolger = vorgaenger.naechstes;
+            for (int i = 0; i < anzahl; i++) {
+                Element alt = nachfolger;
+                nachfolger = nachfolger.naechstes;
+                zuruecklegen(alt);
+            }
+            vorgaenger.naechstes = nachfolger;
+            if (nachfolger == null) {
+                ende = vorgaenger;
+            }
+        }
+        laenge -= anzahl;
+        aenderungen++;
+    }
+
+    /**
+     * Gibt ein neues DynArray mit den Inhalten von Index von (einschließlich)
+     * bis Index bis (ausschließlich) zurück. Es hat dieselbe Speicherform wie
+     * dieses DynArray und ist unabhängig von ihm; die Inhalte selbst werden
+     * nicht kopiert. Ist der Bereich ungültig, ist das neue DynArray leer.
+     *
+     * @param von Der Index des ersten zu übernehmenden Elements.
+     * @param bis Der Index hinter dem letzten zu übernehmenden Element.
+     * @return Das neue DynArray.
+     */
+    public DynArray<T> slice(int von, int bis) {
+        boolean gueltig = von >= 0 && bis <= laenge && von < bis;
+        int anzahl = gueltig ? bis - von : 0;
+        if (feld != null) {
+            DynArray<T> teil = new DynArray<>(anzahl);
+            if (gueltig) {
+                System.arraycopy(feld, von, teil.feld, 0, anzahl);
+                teil.laenge = anzahl;
+            }
+            return teil;
+        }
+        DynArray<T> teil = new DynArray<>();
+        if (gueltig) {
+            Element quelle = getElement(von);
+            DynArray<T>.Element letztes = teil.new Element(quelle.inhalt);
+            teil.kopf = letztes;
+            for (int i = 1; i < anzahl; i++) {
+                quelle = quelle.naechstes;
+                letztes.naechstes = teil.new Element(quelle.inhalt);
+                letztes = letztes.naechstes;
+            }
+            teil.ende = letztes;
+            teil.laenge = anzahl;
+        }
+        return teil;
+    }
+
+    /**
+     * Gibt einen Iterator zurück, der die Inhalte in einem Durchlauf vom ersten
+     * bis zum letzten Element liefert.
+     *
+     * @return Ein Iterator über die Inhalte des DynArrays.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ElementIterator();
+    }
+
+    /**
+     * Gibt einen Spliterator mit bekannter Größe zurück, der sich für die
+     * parallele Verarbeitung aufteilen lässt. Im feldbasierten Modus wird
+     * direkt das Feld geteilt.
+     *
+     * @return Ein Spliterator über die Inhalte des DynArrays.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        if (feld != null) {
+            return Spliterators.spliterator(feld, 0, laenge, Spliterator.ORDERED);
+        }
+        return Spliterators.spliterator(iterator(), laenge, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gibt einen sequentiellen Stream über die Inhalte des DynArrays zurück.
+     *
+     * @return Ein Stream über die Inhalte des DynArrays.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gibt einen parallelen Stream über die Inhalte des DynArrays zurück.
+     *
+     * @return Ein paralleler Stream über die Inhalte des DynArrays.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Interne Hilfsoperation zum vereinfachten Zugriff auf die Elemente der Reihung
      * durch die öffentlichen Operationen.
      *
-     * @param index Der Index des gewünschten Elements (beginnend bei 1).
+     * Das zuletzt besuchte Element wird als Cursor gemerkt. Liegt der gesuchte
+     * Index hinter dem Cursor, beginnt die Suche dort statt am Kopf, sodass
+     * aufeinanderfolgende Zugriffe (z. B. getItem(i), getItem(i + 1)) nur einen
+     * Schritt benötigen. Auf das letzte Element wird direkt zugegriffen.
+     *
+     * @param index Der Index des gewünschten Elements (beginnend bei 0).
      * @return Das Element am angegebenen Index oder null, wenn der Index ungültig ist.
      */
     private Element getElement(int index) {
         if (index >= 0 && index < laenge) {
+            if (index == laenge - 1) {
+                return ende;
+            }
             Element aktuell = kopf;
-            for (int i = 0; i < index; i++) {
+            int i = 0;
+            if (cursor != null && cursorIndex <= index) {
+                aktuell = cursor;
+                i = cursorIndex;
+            }
+            for (; i < index; i++) {
                 aktuell = aktuell.naechstes;
             }
+            cursor = aktuell;
+            cursorIndex = index;
             return aktuell;
         }
         return null;
     }
 
+    /**
+     * Legt fest, wie viele gelöschte Elemente das verkettete DynArray höchstens
+     * zur Wiederverwendung aufhebt. Ihre Inhalte werden dabei gelöscht, damit
+     * sie nicht länger als nötig im Speicher bleiben. Voreingestellt ist 0, es
+     * wird also nichts aufgehoben; im feldbasierten Modus hat die Einstellung
+     * keine Wirkung.
+     *
+     * Ein Iterator, der beim Löschen noch auf das gelöschte Element zeigt,
+     * liefert danach keine sinnvollen Werte mehr.
+     *
+     * @param groesse Die Höchstzahl aufgehobener Elemente.
+     */
+    public void setPoolSize(int groesse) {
+        freiMax = feld != null ? 0 : Math.max(groesse, 0);
+        while (freiAnzahl > freiMax) {
+            frei = frei.naechstes;
+            freiAnzahl--;
+        }
+    }
+
+    /**
+     * Gibt ein Element mit dem übergebenen Inhalt zurück, wenn möglich ein
+     * aufgehobenes.
+     */
+    private Element neuesElement(T inhalt) {
+        Element e = frei;
+        if (e == null) {
+            return new Element(inhalt);
+        }
+        frei = e.naechstes;
+        freiAnzahl--;
+        e.inhalt = inhalt;
+        e.naechstes = null;
+        return e;
+    }
+
+    /**
+     * Hebt ein gelöschtes Element ohne seinen Inhalt auf, solange noch Platz
+     * ist.
+     */
+    private void zuruecklegen(Element e) {
+        if (freiAnzahl < freiMax) {
+            e.inhalt = null;
+            e.naechstes = frei;
+            frei = e;
+            freiAnzahl++;
+        }
+    }
+
+    /**
+     * Verwirft den gemerkten Cursor, z. B. wenn sein Element gelöscht wurde.
+     */
+    private void cursorZuruecksetzen() {
+        cursor = null;
+        cursorIndex = -1;
+    }
+
+    /**
+     * Interne Hilfsoperation für den feldbasierten Modus: Gibt die übergebenen
+     * Inhalte als eigenes Feld zurück. Sammlungen und feldbasierte DynArrays
+     * werden am Stück kopiert, andere Quellen einmal durchlaufen. Da immer eine
+     * Kopie entsteht, darf die Quelle auch dieses DynArray selbst sein.
+     *
+     * @param inhalte Die Inhalte.
+     * @return Ein Feld, das genau die Inhalte enthält.
+     */
+    private Object[] alsFeld(Iterable<? extends T> inhalte) {
+        if (inhalte instanceof Collection<?> sammlung) {
+            return sammlung.toArray();
+        }
+        if (inhalte instanceof DynArray<?> reihung && reihung.feld != null) {
+            return Arrays.copyOf(reihung.feld, reihung.laenge);
+        }
+        Object[] neu = new Object[16];
+        int anzahl = 0;
+        for (T inhalt : inhalte) {
+            if (anzahl == neu.length) {
+                neu = Arrays.copyOf(neu, anzahl * 2);
+            }
+            neu[anzahl++] = inhalt;
+        }
+        return Arrays.copyOf(neu, anzahl);
+    }
+
+    /**
+     * Interne Hilfsoperation für den feldbasierten Modus: Vergrößert das Feld
+     * durch Verdoppeln, falls es die gewünschte Anzahl an Inhalten nicht fassen
+     * kann.
+     *
+     * @param benoetigt Die Anzahl der Inhalte, die das Feld fassen muss.
+     */
+    private void kapazitaetSichern(int benoetigt) {
+        if (benoetigt > feld.length) {
+            feld = Arrays.copyOf(feld, Math.max(benoetigt, feld.length * 2));
+        }
+    }
+
 
     /**
      * Visualisierung eines DynArray in Processing.
      * @param sketch Der PApplet, auf dem gezeichnet wird.
      */
     public void drawDynArray(PApplet sketch) {
-        gui.drawDynArray(sketch);
+        gui().drawDynArray(sketch);
     }
     
     /**
@@ -214,7 +618,19 @@ public class DynArray<T> {
      * @param y Die vorgegebene Höhe.
      */
     public void drawDynArray(PApplet sketch, float y) {
-        gui.drawDynArray(sketch, y);
+        gui().drawDynArray(sketch, y);
+    }
+
+    /**
+     * Gibt die Visualisierung zurück und legt sie beim ersten Aufruf an.
+     *
+     * @return Die GUI dieses DynArrays.
+     */
+    private GUI<T> gui() {
+        if (gui == null) {
+            gui = new GUI<>(this);
+        }
+        return gui;
     }
 
     int getLaenge() {
@@ -223,6 +639,71 @@ public class DynArray<T> {
 
     public void setLaenge(int laenge) {
         this.laenge = laenge;
+        aenderungen++;
+    }
+
+    /**
+     * Gibt den Änderungszähler zurück. Er wird bei jedem Einfügen, Löschen und
+     * Ersetzen erhöht; solange er gleich bleibt, muss die GUI nicht neu zeichnen.
+     * Änderungen innerhalb der gespeicherten Objekte bemerkt er nicht.
+     *
+     * @return Der Änderungszähler.
+     */
+    int getAenderungen() {
+        return aenderungen;
+    }
+
+    /**
+     * Iterator, der im verketteten Modus die Element-Kette und im feldbasierten
+     * Modus das Feld abläuft.
+     */
+    private class ElementIterator implements Iterator<T> {
+        private Element aktuell = kopf;
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < laenge;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (index >= laenge) {
+                throw new NoSuchElementException();
+            }
+            index++;
+            if (feld != null) {
+                return (T) feld[index - 1];
+            }
+            T inhalt = aktuell.inhalt;
+            aktuell = aktuell.naechstes;
+            return inhalt;
+        }
+    }
+
+    /**
+     * Eine noch nicht eingehängte Kette neuer Elemente, die in einem Durchlauf
+     * aus den übergebenen Inhalten aufgebaut wird. Die Quelle darf auch dieses
+     * DynArray selbst sein, da es dabei noch nicht verändert wird.
+     */
+    private class Kette {
+        private Element erstes;
+        private Element letztes;
+        private int anzahl;
+
+        private Kette(Iterable<? extends T> inhalte) {
+            for (T inhalt : inhalte) {
+                Element neu = neuesElement(inhalt);
+                if (erstes == null) {
+                    erstes = neu;
+                } else {
+                    letztes.naechstes = neu;
+                }
+                letztes = neu;
+                anzahl++;
+            }
+        }
     }
 
     /**
@@ -1,13 +1,20 @@
 package adt;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import processing.core.PApplet;
+import processing.core.PFont;
+import processing.core.PGraphics;
 
 /**
  * Die Klasse {@code GUI} implementiert eine grafische Benutzeroberfläche (GUI)
  * für die Darstellung von {@link Stack}, {@link Queue} und {@link DynArray}.
  * Sie verwendet Processing für die grafische Darstellung.
+ * <p>
+ * Gezeichnet wird in einen {@link DrawBuffer}. Solange sich die Datenstruktur,
+ * die Position und die Größe des Sketches nicht ändern, wird in jedem Frame nur
+ * das fertige Bild kopiert.
  *
  * @param <T> Der Typ der Elemente, die in den Datenstrukturen gespeichert
  *            werden.
@@ -23,11 +30,27 @@ public class GUI<T> extends PApplet {
     private static final float TEXT_SIZE_FACTOR = 0.4f;
     private static final float STACK_WIDTH_FACTOR = 0.75f;
     private static final int BORDER_WEIGHT = 4;
+    private static final int TEXT_CACHE_SIZE = 4096; // gemerkte Schriftgrößen
 
     private Stack<T> stack;
     private Queue<T> queue;
     private DynArray<T> dynArray;
 
+    /**
+     * Bereits ermittelte Schriftgrößen je Text und Boxgröße. Der Cache ist nach
+     * der letzten Benutzung geordnet; ist er voll, fällt der am längsten nicht
+     * benutzte Eintrag heraus.
+     */
+    @SuppressWarnings("serial")
+    private final Map<TextKey, Float> textSizes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TextKey, Float> eldest) {
+            return size() > TEXT_CACHE_SIZE;
+        }
+    };
+    private PFont textSizesFont; // Schrift, für die die gemerkten Größen gelten
+    private final DrawBuffer buffer = new DrawBuffer();
+
     /**
      * Konstruktor für die GUI mit einem Stack.
      *
@@ -56,57 +79,54 @@ public class GUI<T> extends PApplet {
     }
 
     /**
-     * Hilfsmethode, um die Elemente eines Stacks in einer Liste zurückzugeben, ohne
-     * den Stack zu verändern.
+     * Zeichnet den Stack auf dem übergebenen PApplet.
      *
-     * @param stack Der Stack, dessen Elemente abgerufen werden sollen.
-     * @return Eine Liste mit den Elementen des Stacks.
+     * @param p Der PApplet, auf dem gezeichnet wird.
+     * @param x Die x-Koordinate des Stacks.
      */
-    private List<T> getStackElements(Stack<T> stack) {
-        List<T> elements = new ArrayList<>();
-        Stack<T> tempStack = new Stack<>(); // Temporärer Stack
-        while (!stack.isEmpty()) {
-            T element = stack.pop1();
-            elements.add(element);
-            tempStack.push1(element); // Elemente im temporären Stack zwischenspeichern
-        }
-        while (!tempStack.isEmpty()) {
-            stack.push1(tempStack.pop1()); // Ursprünglichen Stack wiederherstellen
+    public void drawStack(PApplet p, float x) {
+        if (stack == null)
+            return;
+        PGraphics g = buffer.begin(p, stack.getAenderungen(), x);
+        if (g != null) {
+            renderStack(g, x);
+            buffer.end();
         }
-        return elements;
+        buffer.show(p);
     }
 
     /**
-     * Zeichnet den Stack auf dem übergebenen PApplet.
+     * Zeichnet den Stack in den Puffer.
      *
-     * @param p Der PApplet, auf dem gezeichnet wird.
+     * @param p Der Puffer, in den gezeichnet wird.
      * @param x Die x-Koordinate des Stacks.
      */
-    public void drawStack(PApplet p, float x) {
-        if (stack == null)
-            return;
+    private void renderStack(PGraphics p, float x) {
         if (stack.isEmpty()) {
             p.text("Stack ist leer", x, p.height / 2);
             return;
         }
 
-        List<T> elements = getStackElements(stack);
-        int groesse = elements.size();
+        // Die Item-Kette wird von oben nach unten direkt abgelaufen, ohne den Stack
+        // zu verändern oder eine Kopie anzulegen.
+        int groesse = stack.size();
 
         float itemHeight = (p.height * (1 - 2 * MARGIN_FACTOR)) / groesse;
         p.textSize(itemHeight * TEXT_SIZE_FACTOR);
 
         float largestItemsize = 0;
-        for (T element : elements) {
-            largestItemsize = Math.max(largestItemsize, element.toString().length());
+        for (Stack<T>.Item aktuell = stack.getTopItem(); aktuell != null; aktuell = aktuell.below) {
+            largestItemsize = Math.max(largestItemsize, aktuell.data.toString().length());
         }
 
         float stackWidth = (itemHeight * TEXT_SIZE_FACTOR * STACK_WIDTH_FACTOR) * largestItemsize;
         float offsetY = p.height * MARGIN_FACTOR;
 
-        for (int i = 0; i < groesse; i++) {
-            String content = elements.get(i).toString();
+        int i = 0;
+        for (Stack<T>.Item aktuell = stack.getTopItem(); aktuell != null; aktuell = aktuell.below) {
+            String content = aktuell.data.toString();
             drawBox(p, x - stackWidth / 2, offsetY + i * itemHeight, stackWidth, itemHeight, content, false);
+            i++;
         }
 
         p.stroke(0);
@@ -127,6 +147,21 @@ public class GUI<T> extends PApplet {
     public void drawDynArray(PApplet p, float y) {
         if (dynArray == null)
             return;
+        PGraphics g = buffer.begin(p, dynArray.getAenderungen(), y);
+        if (g != null) {
+            renderDynArray(g, y);
+            buffer.end();
+        }
+        buffer.show(p);
+    }
+
+    /**
+     * Zeichnet das DynArray in den Puffer.
+     *
+     * @param p Der Puffer, in den gezeichnet wird.
+     * @param y Die y-Koordinate des DynArrays.
+     */
+    private void renderDynArray(PGraphics p, float y) {
         if (dynArray.getLaenge() == 0) {
             p.text("DynArray ist leer", p.width / 2, y);
             return;
@@ -135,9 +170,12 @@ public class GUI<T> extends PApplet {
         float itemWidth = (p.width * (1 - 2 * MARGIN_FACTOR)) / dynArray.getLaenge();
         p.textSize(itemWidth * TEXT_SIZE_FACTOR);
 
-        for (int i = 0; i < dynArray.getLaenge(); i++) {
-            String content = dynArray.getItem(i).toString();
+        // Ein Durchlauf über die Inhalte statt eines Indexzugriffs pro Box
+        int i = 0;
+        for (T inhalt : dynArray) {
+            String content = inhalt.toString();
             drawBox(p, i * itemWidth + p.width * MARGIN_FACTOR, y - itemWidth / 2, itemWidth, itemWidth, content, false);
+            i++;
         }
     }
 
@@ -148,10 +186,25 @@ public class GUI<T> extends PApplet {
      * @param p Der PApplet, auf dem gezeichnet wird.
      * @param y Die y-Koordinate der Queue.
      */
-    @SuppressWarnings({ "rawtypes"})
     public void drawQueue(PApplet p, float y) {
         if (queue == null)
             return;
+        PGraphics g = buffer.begin(p, queue.getAenderungen(), y);
+        if (g != null) {
+            renderQueue(g, y);
+            buffer.end();
+        }
+        buffer.show(p);
+    }
+
+    /**
+     * Zeichnet die Queue in den Puffer.
+     *
+     * @param p Der Puffer, in den gezeichnet wird.
+     * @param y Die y-Koordinate der Queue.
+     */
+    @SuppressWarnings({ "rawtypes"})
+    private void renderQueue(PGraphics p, float y) {
         if (queue.isEmpty()) {
             p.text("Queue ist leer", p.width / 2, y);
             return;
@@ -191,7 +244,7 @@ public class GUI<T> extends PApplet {
 	/**
 	 * Zeichnet eine einzelne Box mit Text.
 	 *
-	 * @param p        Das PApplet, auf dem gezeichnet wird.
+	 * @param p        Der Puffer, in den gezeichnet wird.
 	 * @param x        Die x-Position (linke obere Ecke) der Box.
 	 * @param y        Die y-Position (linke obere Ecke) der Box.
 	 * @param width    Die Breite der Box.
@@ -199,7 +252,7 @@ public class GUI<T> extends PApplet {
 	 * @param text     Der Text, der in der Box angezeigt wird.
 	 * @param highlight Wenn true, wird die Box hervorgehoben (z.B. andere Farbe oder dickeren Rand).
 	 */
-	private void drawBox(PApplet p, float x, float y, float width, float height, String text, boolean highlight) {
+	private void drawBox(PGraphics p, float x, float y, float width, float height, String text, boolean highlight) {
 	    // Hintergrundfarbe
 	    if (highlight) {
 	        p.fill(255, 255, 0);
@@ -216,15 +269,21 @@ public class GUI<T> extends PApplet {
 	    float maxTextWidth = width - 2 * padding;
 	    float maxTextHeight = height - 2 * padding;
 
-	    // Startgröße der Schrift
-	    float textSize = maxTextHeight; // kann auch größer sein und runtergefahren werden
-
 	    p.textAlign(PApplet.CENTER, PApplet.CENTER);
 
-	    // Schriftgröße finden, die passt
-	    p.textSize(textSize);
-	    while (p.textWidth(text) > maxTextWidth && textSize > 4) { // Grenze nach unten (z.B. 4)
-	        textSize -= 1;
+	    // Schriftgröße finden, die passt (nur beim ersten Mal wird gemessen)
+	    if (p.textFont != textSizesFont) {
+	        textSizes.clear(); // andere Schrift, andere Breiten
+	        textSizesFont = p.textFont;
+	    }
+	    TextKey key = new TextKey(text, maxTextWidth, maxTextHeight);
+	    Float textSize = textSizes.get(key);
+	    if (textSize == null) {
+	        textSize = fitTextSize(p, text, maxTextWidth, maxTextHeight);
+	        textSizesFont = p.textFont; // wird beim ersten Messen evtl. erst angelegt
+	        textSizes.put(key, textSize);
+	    }
+	    if (textSize > 0) { // Processing ignoriert Größen <= 0 ohnehin, meldet sie aber jedes Mal
 	        p.textSize(textSize);
 	    }
 
@@ -233,5 +292,39 @@ public class GUI<T> extends PApplet {
 	    p.text(text, x + width / 2, y + height / 2);
 	}
 
+	/**
+	 * Bestimmt die größte Schriftgröße maxTextHeight - k (k = 0, 1, 2, ...), bei
+	 * der der Text höchstens maxTextWidth breit ist. Unterhalb von 4 wird nicht
+	 * weiter verkleinert. Da die Textbreite mit der Schriftgröße wächst, genügt
+	 * eine binäre Suche über k mit logarithmisch vielen Messungen.
+	 *
+	 * @param p             Der Puffer, mit dem gemessen wird.
+	 * @param text          Der Text.
+	 * @param maxTextWidth  Die verfügbare Breite.
+	 * @param maxTextHeight Die verfügbare Höhe und damit die Startgröße.
+	 * @return Die passende Schriftgröße.
+	 */
+	private static float fitTextSize(PGraphics p, String text, float maxTextWidth, float maxTextHeight) {
+	    int maxK = maxTextHeight > 4 ? (int) Math.ceil(maxTextHeight - 4) : 0; // Grenze nach unten
+	    int lo = 0;
+	    int hi = maxK; // bei k = maxK wird in jedem Fall aufgehört
+	    while (lo < hi) {
+	        int k = (lo + hi) >>> 1;
+	        p.textSize(maxTextHeight - k);
+	        if (p.textWidth(text) <= maxTextWidth) {
+	            hi = k;
+	        } else {
+	            lo = k + 1;
+	        }
+	    }
+	    return maxTextHeight - lo;
+	}
+
+	/**
+	 * Schlüssel für die gemerkten Schriftgrößen.
+	 */
+	private record TextKey(String text, float width, float height) {
+	}
+
 
 }
@@ -0,0 +1,139 @@
+package adt;
+
+import java.util.stream.IntStream;
+
+/**
+ * Implementierung der Klasse IntQueue (Schlange für Ganzzahlen):
+ * <p>
+ * Die IntQueue bietet dieselben Operationen wie {@link Queue}, speichert die
+ * Inhalte aber ohne Boxing in einem int-Ringpuffer. Kopf und Ende wandern im
+ * Feld im Kreis, sodass enqueue und dequeue keine Objekte anlegen. Ist der
+ * Puffer voll, wird er verdoppelt. Damit eignet sich die IntQueue als direkter
+ * Ersatz für eine {@code Queue<Integer>}.
+ * <p>
+ * Wie bei der Queue sind keine "Absicherungen" enthalten, die z. B. das
+ * Entnehmen bei einer leeren Schlange verhindern.
+ */
+public class IntQueue {
+    /**
+     * Größte mögliche Länge des Ringpuffers, die größte Zweierpotenz im
+     * int-Bereich.
+     */
+    private static final int MAX_LAENGE = 1 << 30;
+
+    /**
+     * Der Ringpuffer. Seine Länge ist immer eine Zweierpotenz, damit der Index
+     * mit einer Bitmaske statt mit einer Division umgebrochen werden kann.
+     */
+    private int[] feld;
+    /**
+     * Position des ersten Elements der Schlange im Ringpuffer.
+     */
+    private int kopf;
+
+    private int size;
+
+    /**
+     * Eine leere Schlange wird angelegt.
+     */
+    public IntQueue() {
+        this(16);
+    }
+
+    /**
+     * Eine leere Schlange mit mindestens der angegebenen Anfangskapazität wird
+     * angelegt.
+     *
+     * @param kapazitaet Die anfängliche Größe des Ringpuffers.
+     * @throws IllegalArgumentException wenn die Kapazität größer als 2^30 ist.
+     */
+    public IntQueue(int kapazitaet) {
+        if (kapazitaet > MAX_LAENGE) {
+            throw new IllegalArgumentException("Kapazität zu groß: " + kapazitaet);
+        }
+        feld = new int[kapazitaet <= 1 ? 1 : Integer.highestOneBit(kapazitaet - 1) << 1];
+        kopf = 0;
+        size = 0;
+    }
+
+    /**
+     * Überprüft, ob die Schlange leer ist.
+     *
+     * @return {@code true}, wenn die Schlange leer ist, {@code false} sonst.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück, ohne es zu
+     * entfernen.
+     *
+     * @return Der Inhalt des ersten Elements.
+     */
+    public int head() {
+        return feld[kopf];
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück und entfernt es.
+     *
+     * @return Der Inhalt des entfernten Elements.
+     */
+    public int dequeue() {
+        int temp = feld[kopf];
+        kopf = (kopf + 1) & (feld.length - 1);
+        size--;
+        return temp;
+    }
+
+    /**
+     * Fügt ein neues Element mit dem übergebenen Inhalt am Ende der Schlange hinzu.
+     *
+     * @param d Der Inhalt des neuen Elements.
+     */
+    public void enqueue(int d) {
+        if (size == feld.length) {
+            vergroessern();
+        }
+        feld[(kopf + size) & (feld.length - 1)] = d;
+        size++;
+    }
+
+    /**
+     * Gibt die Länge der Schlange zurück.
+     *
+     * @return Die Länge der Schlange.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gibt einen Stream über die Inhalte vom Kopf bis zum Ende zurück, ohne die
+     * Schlange zu verändern.
+     *
+     * @return Ein IntStream über die Inhalte der Schlange.
+     */
+    public IntStream stream() {
+        return IntStream.range(0, size).map(i -> feld[(kopf + i) & (feld.length - 1)]);
+    }
+
+    /**
+     * Verdoppelt den Ringpuffer. Die Inhalte werden dabei so umkopiert, dass der
+     * Kopf wieder an Position 0 steht.
+     *
+     * @throws IllegalStateException wenn der Puffer schon die größte Länge hat.
+     */
+    private void vergroessern() {
+        if (feld.length == MAX_LAENGE) {
+            throw new IllegalStateException("Schlange ist voll");
+        }
+        int[] neu = new int[feld.length * 2];
+        int bisEnde = feld.length - kopf;
+        System.arraycopy(feld, kopf, neu, 0, bisEnde);
+        System.arraycopy(feld, 0, neu, bisEnde, kopf);
+        feld = neu;
+        kopf = 0;
+    }
+}
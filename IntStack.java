@@ -0,0 +1,107 @@
+package adt;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Implementierung der Klasse IntStack (Stapel für Ganzzahlen):
+ * <p>
+ * Der IntStack bietet dieselben Operationen wie {@link Stack}, speichert die
+ * Inhalte aber ohne Boxing direkt in einem int-Feld, das bei Bedarf verdoppelt
+ * wird. Es werden also weder Integer- noch Item-Objekte angelegt. Damit eignet
+ * er sich als direkter Ersatz für einen {@code Stack<Integer>}.
+ * <p>
+ * Wie beim Stack sind keine "Absicherungen" enthalten, die z. B. das Entnehmen
+ * bei einem leeren Stapel verhindern.
+ */
+public class IntStack {
+
+	/**
+	 * Die Inhalte des Stapels, das oberste Element liegt bei {@code anzahl - 1}.
+	 */
+	private int[] feld;
+	/**
+	 * Anzahl der Elemente im Stapel.
+	 */
+	private int anzahl;
+
+	/**
+	 * Ein leerer Stapel wird angelegt.
+	 */
+	public IntStack() {
+		this(16);
+	}
+
+	/**
+	 * Ein leerer Stapel mit der angegebenen Anfangskapazität wird angelegt.
+	 *
+	 * @param kapazitaet Die anfängliche Größe des internen Feldes.
+	 */
+	public IntStack(int kapazitaet) {
+		feld = new int[Math.max(kapazitaet, 1)];
+		anzahl = 0;
+	}
+
+	/**
+	 * Wenn der Stapel kein Element besitzt, wird der Wert wahr zurückgegeben, sonst
+	 * der Wert falsch.
+	 *
+	 * @return true wenn der Stapel leer ist, false sonst.
+	 */
+	public boolean isEmpty() {
+		return anzahl == 0;
+	}
+
+	/**
+	 * Der Inhalt des obersten Element des Stapels wird zurückgegeben, das Element
+	 * aber nicht aus dem Stapel entfernt.
+	 *
+	 * @return Der Inhalt des obersten Elements.
+	 */
+	public int top() {
+		return feld[anzahl - 1];
+	}
+
+	/**
+	 * Der Inhalt des obersten Elements des Stapels wird zurückgegeben und das
+	 * Element dabei vom Stapel entfernt.
+	 *
+	 * @return Der Inhalt des entfernten Elements.
+	 */
+	public int pop1() {
+		anzahl--;
+		return feld[anzahl];
+	}
+
+	/**
+	 * Ein neues Element mit dem übergebenen Inhalt wird auf dem Stapel abgelegt.
+	 *
+	 * @param d Der Inhalt des neuen Elements.
+	 */
+	public void push1(int d) {
+		if (anzahl == feld.length) {
+			feld = Arrays.copyOf(feld, feld.length * 2);
+		}
+		feld[anzahl] = d;
+		anzahl++;
+	}
+
+	/**
+	 * Gibt die Anzahl der Elemente im Stapel zurück.
+	 *
+	 * @return Die Anzahl der Elemente.
+	 */
+	int size() {
+		return anzahl;
+	}
+
+	/**
+	 * Gibt einen Stream über die Inhalte von oben nach unten zurück, ohne den
+	 * Stapel zu verändern.
+	 *
+	 * @return Ein IntStream über die Inhalte des Stapels.
+	 */
+	public IntStream stream() {
+		return IntStream.range(0, anzahl).map(i -> feld[anzahl - 1 - i]);
+	}
+}
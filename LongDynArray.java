@@ -0,0 +1,165 @@
+package adt;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import processing.core.PApplet;
+
+/**
+ * Implementierung der Klasse LongDynArray (Dynamische Reihung für lange Ganzzahlen):
+ *
+ * Das LongDynArray bietet dieselben Operationen wie {@link DynArray}, speichert
+ * die Inhalte aber ohne Boxing in einem zusammenhängenden long-Feld, das bei
+ * Bedarf verdoppelt wird. getItem und setItem arbeiten in O(1), append1
+ * amortisiert in O(1). Damit eignet es sich als direkter Ersatz für ein
+ * {@code DynArray<Long>}.
+ *
+ * Da ein long nicht null sein kann, liefert getItem bei einem ungültigen Index
+ * den Wert 0.
+ */
+public class LongDynArray {
+    // Anfang Attribute
+    private int laenge;
+    private long[] feld;
+    // Ende Attribute
+
+    /**
+     * Konstruktor für ein leeres LongDynArray.
+     */
+    public LongDynArray() {
+        this(16);
+    }
+
+    /**
+     * Konstruktor für ein leeres LongDynArray mit der angegebenen
+     * Anfangskapazität.
+     *
+     * @param kapazitaet Die anfängliche Größe des internen Feldes.
+     */
+    public LongDynArray(int kapazitaet) {
+        laenge = 0;
+        feld = new long[Math.max(kapazitaet, 1)];
+    }
+
+    // Anfang Methoden
+
+    /**
+     * Überprüft, ob das LongDynArray leer ist.
+     *
+     * @return true, wenn das LongDynArray leer ist, sonst false.
+     */
+    public boolean isEmpty() {
+        return laenge == 0;
+    }
+
+    /**
+     * Gibt das Element an einem bestimmten Index zurück.
+     *
+     * @param index Der Index des Elements.
+     * @return Das Element am angegebenen Index oder 0, wenn der Index ungültig ist.
+     */
+    public long getItem(int index) {
+        if (index >= 0 && index < laenge) {
+            return feld[index];
+        }
+        return 0;
+    }
+
+    /**
+     * Gibt die Anzahl der Elemente im LongDynArray zurück.
+     *
+     * @return Die Anzahl der Elemente.
+     */
+    public int getLength() {
+        return laenge;
+    }
+
+    /**
+     * Fügt ein Element am Ende des LongDynArrays hinzu.
+     *
+     * @param inhalt Der Inhalt des hinzuzufügenden Elements.
+     */
+    public void append1(long inhalt) {
+        kapazitaetSichern(laenge + 1);
+        feld[laenge] = inhalt;
+        laenge++;
+    }
+
+    /**
+     * Fügt ein Element an einem bestimmten Index ein.
+     *
+     * @param index Der Index, an dem das Element eingefügt werden soll.
+     * @param inhalt Der Inhalt des einzufügenden Elements.
+     */
+    public void insertAt(int index, long inhalt) {
+        if (index >= 0 && index <= laenge) {
+            kapazitaetSichern(laenge + 1);
+            System.arraycopy(feld, index, feld, index + 1, laenge - index);
+            feld[index] = inhalt;
+            laenge++;
+        }
+    }
+
+    /**
+     * Setzt den Inhalt des Elements an einem bestimmten Index.
+     *
+     * @param index Der Index des zu setzenden Elements.
+     * @param inhalt Der neue Inhalt des Elements.
+     */
+    public void setItem(int index, long inhalt) {
+        if (index >= 0 && index < laenge) {
+            feld[index] = inhalt;
+        }
+    }
+
+    /**
+     * Gibt den Inhalt der Liste in eckigen Klammern auf der Konsole aus.
+     * Jedes Element wird durch ein Komma getrennt.
+     *
+     * Beispielausgabe: [1,2,3,]
+     */
+    public void print() {
+        StringBuilder ausgabe = new StringBuilder("[");
+        for (int i = 0; i < laenge; i++) {
+            ausgabe.append(feld[i]).append(',');
+        }
+        PApplet.print(ausgabe.append("]\n"));
+    }
+
+    /**
+     * Löscht das Element an einem bestimmten Index.
+     *
+     * @param index Der Index des zu löschenden Elements.
+     */
+    public void delete(int index) {
+        if (index >= 0 && index < laenge) {
+            System.arraycopy(feld, index + 1, feld, index, laenge - index - 1);
+            laenge--;
+        }
+    }
+
+    /**
+     * Gibt einen Stream über die Inhalte des LongDynArrays zurück.
+     *
+     * @return Ein LongStream über die Inhalte.
+     */
+    public LongStream stream() {
+        return Arrays.stream(feld, 0, laenge);
+    }
+
+    /**
+     * Vergrößert das Feld durch Verdoppeln, falls es die gewünschte Anzahl an
+     * Inhalten nicht fassen kann.
+     *
+     * @param benoetigt Die Anzahl der Inhalte, die das Feld fassen muss.
+     */
+    private void kapazitaetSichern(int benoetigt) {
+        if (benoetigt > feld.length) {
+            feld = Arrays.copyOf(feld, Math.max(benoetigt, feld.length * 2));
+        }
+    }
+
+    int getLaenge() {
+        return laenge;
+    }
+}
@@ -0,0 +1,255 @@
+package adt;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementierung der Klasse PersistentQueue (unveränderliche Schlange):
+ * <p>
+ * Eine PersistentQueue wird nach dem Anlegen nie mehr verändert. enqueue und
+ * dequeue liefern stattdessen eine neue Version, die sich ihre Elemente mit
+ * der alten Version teilt; beide Versionen bleiben gültig. Eine Momentaufnahme
+ * ist damit einfach ein Verweis auf die aktuelle Version und kostet O(1), und
+ * andere Threads können jede Version ohne Sperre lesen.
+ * <p>
+ * Intern ist die Schlange eine Echtzeit-Schlange nach Okasaki: Die vorderen
+ * Elemente liegen in einer verzögert ausgewerteten Liste, neu angehängte
+ * Elemente in einem {@link PersistentStack}. Sobald der Stapel länger als die
+ * vordere Liste würde, wird er schrittweise umgedreht und hinten an die vordere
+ * Liste gehängt. Ein Zeiger ("Plan") in die vordere Liste sorgt dafür, dass
+ * jede Operation genau einen weiteren Schritt dieser Umkehrung ausführt. Jede
+ * Operation kostet so auch im schlechtesten Fall nur O(1), unabhängig davon,
+ * welche alte Version weiterbenutzt wird.
+ * <p>
+ * Anders als bei der {@link Queue} liefert head bei einer leeren Schlange null,
+ * und dequeue gibt eine leere Schlange unverändert zurück.
+ *
+ * @param <T> Der Datentyp der in der Schlange gespeicherten Elemente.
+ */
+public final class PersistentQueue<T> implements Iterable<T> {
+
+    /**
+     * Die vorderen Elemente, verzögert ausgewertet.
+     */
+    private final Strom<T> vorne;
+    /**
+     * Die hinteren Elemente, das zuletzt angehängte liegt oben.
+     */
+    private final PersistentStack<T> hinten;
+    /**
+     * Der noch nicht ausgewertete Teil von vorne; seine Länge ist stets die
+     * Länge von vorne minus die Länge von hinten.
+     */
+    private final Strom<T> plan;
+    /**
+     * Anzahl der Elemente dieser Version.
+     */
+    private final int anzahl;
+
+    /**
+     * Eine leere Schlange wird angelegt.
+     */
+    public PersistentQueue() {
+        this(Strom.leer(), new PersistentStack<>(), Strom.leer(), 0);
+    }
+
+    private PersistentQueue(Strom<T> vorne, PersistentStack<T> hinten, Strom<T> plan, int anzahl) {
+        this.vorne = vorne;
+        this.hinten = hinten;
+        this.plan = plan;
+        this.anzahl = anzahl;
+    }
+
+    /**
+     * Überprüft, ob die Schlange leer ist.
+     *
+     * @return {@code true}, wenn die Schlange leer ist, {@code false} sonst.
+     */
+    public boolean isEmpty() {
+        return anzahl == 0;
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück.
+     *
+     * @return Der Inhalt des ersten Elements oder null, wenn die Schlange leer ist.
+     */
+    public T head() {
+        Zelle<T> z = vorne.auswerten();
+        return z == null ? null : z.kopf;
+    }
+
+    /**
+     * Gibt eine neue Version zurück, an deren Ende zusätzlich ein Element mit dem
+     * übergebenen Inhalt steht. Diese Schlange bleibt unverändert.
+     *
+     * @param d Der Inhalt des neuen Elements.
+     * @return Die neue Schlange.
+     */
+    public PersistentQueue<T> enqueue(T d) {
+        return planAusfuehren(vorne, hinten.push(d), plan, anzahl + 1);
+    }
+
+    /**
+     * Gibt eine neue Version ohne das erste Element zurück. Diese Schlange bleibt
+     * unverändert.
+     *
+     * @return Die Schlange ohne das erste Element.
+     */
+    public PersistentQueue<T> dequeue() {
+        Zelle<T> z = vorne.auswerten();
+        if (z == null) {
+            return this;
+        }
+        return planAusfuehren(z.rest, hinten, plan, anzahl - 1);
+    }
+
+    /**
+     * Gibt die Länge der Schlange zurück.
+     *
+     * @return Die Länge der Schlange.
+     */
+    public int size() {
+        return anzahl;
+    }
+
+    /**
+     * Gibt einen Iterator zurück, der die Inhalte vom Kopf zum Ende liefert.
+     *
+     * @return Ein Iterator über die Inhalte der Schlange.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private PersistentQueue<T> rest = PersistentQueue.this;
+
+            @Override
+            public boolean hasNext() {
+                return !rest.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (rest.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                T data = rest.head();
+                rest = rest.dequeue();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Gibt einen Spliterator mit bekannter Größe zurück.
+     *
+     * @return Ein Spliterator über die Inhalte der Schlange.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), anzahl, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Gibt einen sequentiellen Stream über die Inhalte vom Kopf zum Ende zurück.
+     *
+     * @return Ein Stream über die Inhalte der Schlange.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Führt einen Schritt des Plans aus. Ist der Plan abgearbeitet, ist der
+     * Stapel hinten genau ein Element länger als vorne; dann beginnt eine neue
+     * Umkehrung.
+     */
+    private static <T> PersistentQueue<T> planAusfuehren(Strom<T> vorne, PersistentStack<T> hinten, Strom<T> plan,
+            int anzahl) {
+        Zelle<T> z = plan.auswerten();
+        if (z != null) {
+            return new PersistentQueue<>(vorne, hinten, z.rest, anzahl);
+        }
+        Strom<T> neu = drehen(vorne, hinten, Strom.leer());
+        return new PersistentQueue<>(neu, new PersistentStack<>(), neu, anzahl);
+    }
+
+    /**
+     * Liefert verzögert vorne, gefolgt von den umgedrehten Elementen von hinten
+     * und dann von {@code fertig}. Jede Auswertung einer Zelle nimmt ein Element
+     * von vorne und eines von hinten.
+     */
+    private static <T> Strom<T> drehen(Strom<T> vorne, PersistentStack<T> hinten, Strom<T> fertig) {
+        return new Strom<>(() -> {
+            Zelle<T> z = vorne.auswerten();
+            Strom<T> weiter = Strom.zelle(hinten.top(), fertig);
+            if (z == null) {
+                return weiter.auswerten();
+            }
+            return new Zelle<>(z.kopf, drehen(z.rest, hinten.pop(), weiter));
+        }, null);
+    }
+
+    /**
+     * Eine ausgewertete Zelle einer Liste: ein Inhalt und der Rest.
+     */
+    private static final class Zelle<T> {
+        final T kopf;
+        final Strom<T> rest;
+
+        Zelle(T kopf, Strom<T> rest) {
+            this.kopf = kopf;
+            this.rest = rest;
+        }
+    }
+
+    /**
+     * Eine verzögert ausgewertete Liste. Sie wird erst beim ersten Aufruf von
+     * auswerten berechnet und merkt sich das Ergebnis. Werten zwei Threads
+     * gleichzeitig aus, rechnen beide dasselbe aus; das ist harmlos, weil die
+     * Berechnung keine Nebenwirkungen hat.
+     */
+    private static final class Strom<T> {
+        private static final Strom<?> LEER = new Strom<>(null, null);
+
+        /**
+         * Die noch ausstehende Berechnung, null, sobald das Ergebnis vorliegt.
+         */
+        private volatile Supplier<Zelle<T>> berechnung;
+        /**
+         * Das Ergebnis, null für eine leere Liste. Wird vor dem Löschen der
+         * Berechnung gesetzt und ist daher sichtbar, sobald diese null ist.
+         */
+        private volatile Zelle<T> wert;
+
+        Strom(Supplier<Zelle<T>> berechnung, Zelle<T> wert) {
+            this.berechnung = berechnung;
+            this.wert = wert;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Strom<T> leer() {
+            return (Strom<T>) LEER;
+        }
+
+        static <T> Strom<T> zelle(T kopf, Strom<T> rest) {
+            return new Strom<>(null, new Zelle<>(kopf, rest));
+        }
+
+        Zelle<T> auswerten() {
+            Supplier<Zelle<T>> b = berechnung;
+            if (b == null) {
+                return wert;
+            }
+            Zelle<T> z = b.get();
+            wert = z;
+            berechnung = null; // gibt die Verweise der Berechnung frei
+            return z;
+        }
+    }
+}
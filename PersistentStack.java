@@ -0,0 +1,164 @@
+package adt;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementierung der Klasse PersistentStack (unveränderlicher Stapel):
+ * <p>
+ * Ein PersistentStack wird nach dem Anlegen nie mehr verändert. push und pop
+ * liefern stattdessen eine neue Version des Stapels, die sich alle Items mit
+ * der alten Version teilt; beide Versionen bleiben gültig. Eine Momentaufnahme
+ * ist damit einfach ein Verweis auf die aktuelle Version und kostet O(1).
+ * Weil sich keine Version je ändert, können andere Threads sie ohne Sperre
+ * lesen.
+ * <p>
+ * Anders als beim {@link Stack} liefert top bei einem leeren Stapel null, und
+ * pop gibt einen leeren Stapel unverändert zurück.
+ *
+ * @param <T> Der Typ der im Stapel gespeicherten Elemente.
+ */
+public final class PersistentStack<T> implements Iterable<T> {
+
+	/**
+	 * Das oberste Element dieser Version.
+	 */
+	private final Item<T> top;
+	/**
+	 * Anzahl der Elemente dieser Version.
+	 */
+	private final int anzahl;
+
+	/**
+	 * Ein leerer Stapel wird angelegt.
+	 */
+	public PersistentStack() {
+		this(null, 0);
+	}
+
+	private PersistentStack(Item<T> top, int anzahl) {
+		this.top = top;
+		this.anzahl = anzahl;
+	}
+
+	/**
+	 * Wenn der Stapel kein Element besitzt, wird der Wert wahr zurückgegeben, sonst
+	 * der Wert falsch.
+	 *
+	 * @return true wenn der Stapel leer ist, false sonst.
+	 */
+	public boolean isEmpty() {
+		return top == null;
+	}
+
+	/**
+	 * Der Inhalt des obersten Elements wird zurückgegeben.
+	 *
+	 * @return Der Inhalt des obersten Elements oder null, wenn der Stapel leer ist.
+	 */
+	public T top() {
+		return top == null ? null : top.data;
+	}
+
+	/**
+	 * Gibt eine neue Version zurück, auf der zusätzlich ein Element mit dem
+	 * übergebenen Inhalt oben liegt. Dieser Stapel bleibt unverändert.
+	 *
+	 * @param d Der Inhalt des neuen Elements.
+	 * @return Der neue Stapel.
+	 */
+	public PersistentStack<T> push(T d) {
+		return new PersistentStack<>(new Item<>(d, top), anzahl + 1);
+	}
+
+	/**
+	 * Gibt eine neue Version ohne das oberste Element zurück. Dieser Stapel
+	 * bleibt unverändert.
+	 *
+	 * @return Der Stapel ohne das oberste Element.
+	 */
+	public PersistentStack<T> pop() {
+		return top == null ? this : new PersistentStack<>(top.below, anzahl - 1);
+	}
+
+	/**
+	 * Gibt die Anzahl der Elemente zurück.
+	 *
+	 * @return Die Anzahl der Elemente.
+	 */
+	public int size() {
+		return anzahl;
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Inhalte von oben nach unten liefert.
+	 *
+	 * @return Ein Iterator über die Inhalte des Stapels.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Item<T> aktuell = top;
+
+			@Override
+			public boolean hasNext() {
+				return aktuell != null;
+			}
+
+			@Override
+			public T next() {
+				if (aktuell == null) {
+					throw new NoSuchElementException();
+				}
+				T data = aktuell.data;
+				aktuell = aktuell.below;
+				return data;
+			}
+		};
+	}
+
+	/**
+	 * Gibt einen Spliterator mit bekannter Größe zurück. Da sich der Stapel nie
+	 * ändert, ist er auch unveränderlich.
+	 *
+	 * @return Ein Spliterator über die Inhalte des Stapels.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), anzahl, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * Gibt einen sequentiellen Stream über die Inhalte von oben nach unten
+	 * zurück.
+	 *
+	 * @return Ein Stream über die Inhalte des Stapels.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Klasse Item zur internen Verwaltung der einzelnen Elemente. Items werden
+	 * von allen Versionen gemeinsam benutzt und deshalb nie verändert.
+	 */
+	private static final class Item<T> {
+		/**
+		 * Die im Item gespeicherten Daten.
+		 */
+		final T data;
+		/**
+		 * Verweis auf das "darunter liegende" Element.
+		 */
+		final Item<T> below;
+
+		Item(T d, Item<T> b) {
+			data = d;
+			below = b;
+		}
+	}
+}
@@ -1,5 +1,13 @@
 package adt;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import processing.core.PApplet;
 
 /**
@@ -23,6 +31,16 @@ import processing.core.PApplet;
  * diese zwar universell nutzbar, man benötigt beim Zugriff auf die Schlange
  * dann aber häufig Typecasting.
  * <p>
+ * Die Schlange kann außerdem vom Kopf bis zum Ende durchlaufen werden, ohne sie
+ * zu verändern (for-each-Schleife, {@link #stream()}).
+ * <p>
+ * Mit {@link #enqueueAll} und {@link #drainTo} lassen sich viele Elemente in
+ * einem Durchgang anhängen oder entnehmen.
+ * <p>
+ * Auf Wunsch ({@link #setPoolSize(int)}) hebt die Schlange entfernte Items auf
+ * und verwendet sie beim nächsten enqueue wieder, sodass ein ständiger
+ * Wechsel von enqueue und dequeue keine neuen Objekte mehr anlegt.
+ * <p>
  *
  * @param <T> Der Datentyp der in der Schlange gespeicherten Elemente.
  * 
@@ -31,7 +49,7 @@ import processing.core.PApplet;
  * @author ChatGPT (Überarbeitungen und Verbesserungen)
  * @version 1.1
  */
-public class Queue<T> {
+public class Queue<T> implements Iterable<T> {
     /**
      * Zur Verwaltung des ersten Elements der Schlange.
      */
@@ -43,8 +61,16 @@ public class Queue<T> {
 
     private int size;
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    private GUI gui = new GUI(this);
+    private int aenderungen; // Änderungszähler, siehe getAenderungen
+
+    private Item frei; // aufgehobene Items zur Wiederverwendung, über next verkettet
+    private int freiAnzahl;
+    private int freiMax; // Höchstzahl aufgehobener Items, 0 schaltet das Aufheben ab
+
+    /**
+     * Visualisierung, wird erst beim ersten Zeichnen angelegt.
+     */
+    private GUI<T> gui;
 
     /**
      * Eine leere Schlange wird angelegt.
@@ -81,8 +107,14 @@ public class Queue<T> {
      */
     public T dequeue() {
         T temp = head.data;
+        Item alt = head;
         head = head.next;
+        if (head == null) {
+            back = null;
+        }
+        zuruecklegen(alt);
         size--;
+        aenderungen++;
         return temp;
     }
 
@@ -92,16 +124,131 @@ public class Queue<T> {
      * @param d Der Inhalt des neuen Elements.
      */
     public void enqueue(T d) {
-        Item i = new Item(d);
+        Item i = neuesItem(d);
         if (!isEmpty()) {
             back.next = i;
         } else {
             head = i;
         }
         size++;
+        aenderungen++;
         back = i;
     }
 
+    /**
+     * Hängt alle übergebenen Inhalte in ihrer Reihenfolge am Ende der Schlange
+     * an. Die neuen Items werden zuerst untereinander verkettet und dann als
+     * Ganzes an das letzte Element gehängt.
+     *
+     * @param inhalte Die anzuhängenden Inhalte.
+     */
+    public void enqueueAll(Iterable<? extends T> inhalte) {
+        Item erstes = null;
+        Item letztes = null;
+        int n = 0;
+        for (T d : inhalte) {
+            Item i = neuesItem(d);
+            if (erstes == null) {
+                erstes = i;
+            } else {
+                letztes.next = i;
+            }
+            letztes = i;
+            n++;
+        }
+        if (n == 0) {
+            return;
+        }
+        if (!isEmpty()) {
+            back.next = erstes;
+        } else {
+            head = erstes;
+        }
+        size += n;
+        aenderungen++;
+        back = letztes;
+    }
+
+    /**
+     * Entfernt höchstens max Elemente vom Kopf der Schlange und fügt ihre
+     * Inhalte in dieser Reihenfolge der übergebenen Sammlung hinzu. Ein Element
+     * wird erst entfernt, nachdem die Sammlung seinen Inhalt aufgenommen hat;
+     * lehnt sie einen Inhalt mit einer Ausnahme ab, bleibt er samt allen
+     * folgenden in der Schlange.
+     *
+     * @param ziel Die Sammlung, die die Inhalte aufnimmt.
+     * @param max  Die größte Anzahl zu entfernender Elemente.
+     * @return Die Anzahl der entfernten Elemente.
+     */
+    public int drainTo(Collection<? super T> ziel, int max) {
+        int n = 0;
+        try {
+            while (head != null && n < max) {
+                ziel.add(head.data);
+                Item alt = head;
+                head = head.next;
+                zuruecklegen(alt);
+                n++;
+            }
+        } finally {
+            if (n > 0) {
+                if (head == null) {
+                    back = null;
+                }
+                size -= n;
+                aenderungen++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Legt fest, wie viele entfernte Items die Schlange höchstens zur
+     * Wiederverwendung aufhebt. Ihre Inhalte werden dabei gelöscht, damit sie
+     * nicht länger als nötig im Speicher bleiben. Voreingestellt ist 0, es wird
+     * also nichts aufgehoben.
+     * <p>
+     * Ein Iterator, der während eines dequeue noch auf das entfernte Item
+     * zeigt, liefert danach keine sinnvollen Werte mehr.
+     *
+     * @param groesse Die Höchstzahl aufgehobener Items.
+     */
+    public void setPoolSize(int groesse) {
+        freiMax = Math.max(groesse, 0);
+        while (freiAnzahl > freiMax) {
+            frei = frei.next;
+            freiAnzahl--;
+        }
+    }
+
+    /**
+     * Gibt ein Item mit dem übergebenen Inhalt zurück, wenn möglich ein
+     * aufgehobenes.
+     */
+    private Item neuesItem(T d) {
+        Item i = frei;
+        if (i == null) {
+            return new Item(d);
+        }
+        frei = i.next;
+        freiAnzahl--;
+        i.data = d;
+        i.next = null;
+        return i;
+    }
+
+    /**
+     * Hebt ein entferntes Item ohne seinen Inhalt auf, solange noch Platz ist.
+     */
+    private void zuruecklegen(Item i) {
+        if (freiAnzahl < freiMax) {
+            i.data = null;
+            i.next = frei;
+            frei = i;
+            freiAnzahl++;
+        }
+    }
+
     /**
      * Gibt die Länge der Schlange zurück. Wird für Visualisierung in Processing
      * benötigt.
@@ -112,13 +259,64 @@ public class Queue<T> {
         return size;
     }
 
+    /**
+     * Gibt den Änderungszähler zurück. Er wird bei jedem enqueue und dequeue
+     * (und einmal je enqueueAll und drainTo) erhöht; solange er gleich bleibt,
+     * muss die GUI nicht neu zeichnen.
+     *
+     * @return Der Änderungszähler.
+     */
+    int getAenderungen() {
+        return aenderungen;
+    }
+
+    /**
+     * Gibt einen Iterator zurück, der die Inhalte vom Kopf bis zum Ende liefert,
+     * ohne die Schlange zu verändern.
+     *
+     * @return Ein Iterator über die Inhalte der Schlange.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new QueueIterator();
+    }
+
+    /**
+     * Gibt einen Spliterator mit bekannter Größe zurück, der sich für die
+     * parallele Verarbeitung aufteilen lässt.
+     *
+     * @return Ein Spliterator über die Inhalte der Schlange.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gibt einen sequentiellen Stream über die Inhalte der Schlange zurück.
+     *
+     * @return Ein Stream über die Inhalte der Schlange.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gibt einen parallelen Stream über die Inhalte der Schlange zurück.
+     *
+     * @return Ein paralleler Stream über die Inhalte der Schlange.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Visualisierung einer Schlange in Processing.
      *
      * @param sketch Das PApplet-Objekt für die Darstellung.
      */
     public void drawQueue(PApplet sketch) {
-        gui.drawQueue(sketch);
+        gui().drawQueue(sketch);
     }
 
     /**
@@ -128,7 +326,41 @@ public class Queue<T> {
      * @param y      Die vorgegebenen Höhe.
      */
     public void drawQueue(PApplet sketch, float y) {
-        gui.drawQueue(sketch, y);
+        gui().drawQueue(sketch, y);
+    }
+
+    /**
+     * Gibt die Visualisierung zurück und legt sie beim ersten Aufruf an.
+     *
+     * @return Die GUI dieser Schlange.
+     */
+    private GUI<T> gui() {
+        if (gui == null) {
+            gui = new GUI<>(this);
+        }
+        return gui;
+    }
+
+    /**
+     * Iterator, der die Item-Kette vom Kopf bis zum Ende abläuft.
+     */
+    private class QueueIterator implements Iterator<T> {
+        private Item aktuell = head;
+
+        @Override
+        public boolean hasNext() {
+            return aktuell != null;
+        }
+
+        @Override
+        public T next() {
+            if (aktuell == null) {
+                throw new NoSuchElementException();
+            }
+            T data = aktuell.data;
+            aktuell = aktuell.next;
+            return data;
+        }
     }
 
     /**
@@ -0,0 +1,193 @@
+package adt;
+
+/**
+ * Implementierung der Klasse RingQueue (Schlange als Ringpuffer):
+ * <p>
+ * Die RingQueue bietet dieselben Operationen wie {@link Queue}, verwaltet die
+ * Inhalte aber in einem Feld, in dem Kopf und Ende im Kreis wandern. enqueue
+ * und dequeue legen daher keine Item-Objekte an.
+ * <p>
+ * Die Schlange kann in zwei Formen angelegt werden:
+ * <ul>
+ * <li>wachsend: Ist der Puffer voll, wird er verdoppelt.</li>
+ * <li>begrenzt: Die Kapazität ist fest. {@link #offer(Object)} liefert dann
+ * false, sodass der Erzeuger warten oder verwerfen kann (Gegendruck);
+ * {@link #enqueue(Object)} löst eine IllegalStateException aus.</li>
+ * </ul>
+ * <p>
+ * Wie bei der Queue sind keine "Absicherungen" enthalten, die z. B. das
+ * Entnehmen bei einer leeren Schlange verhindern.
+ *
+ * @param <T> Der Datentyp der in der Schlange gespeicherten Elemente.
+ */
+public class RingQueue<T> {
+    /**
+     * Größte mögliche Länge des Ringpuffers. Manche JVMs reservieren im Kopf
+     * eines Feldes einige Plätze, daher liegt sie knapp unter Integer.MAX_VALUE.
+     */
+    private static final int MAX_LAENGE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Der Ringpuffer.
+     */
+    private Object[] feld;
+    /**
+     * Position des ersten Elements der Schlange im Ringpuffer.
+     */
+    private int kopf;
+    /**
+     * true, wenn der Puffer bei Bedarf verdoppelt wird, false bei fester
+     * Kapazität.
+     */
+    private final boolean wachsend;
+
+    private int size;
+
+    /**
+     * Eine leere, wachsende Schlange wird angelegt.
+     */
+    public RingQueue() {
+        this(16, true);
+    }
+
+    /**
+     * Eine leere Schlange wird angelegt.
+     *
+     * @param kapazitaet Die (anfängliche) Kapazität des Ringpuffers.
+     * @param wachsend   true für eine wachsende, false für eine in der
+     *                   Kapazität begrenzte Schlange.
+     * @throws IllegalArgumentException wenn die Kapazität größer als
+     *                                  Integer.MAX_VALUE - 8 ist.
+     */
+    public RingQueue(int kapazitaet, boolean wachsend) {
+        if (kapazitaet > MAX_LAENGE) {
+            throw new IllegalArgumentException("Kapazität zu groß: " + kapazitaet);
+        }
+        this.wachsend = wachsend;
+        feld = new Object[Math.max(kapazitaet, 1)];
+        kopf = 0;
+        size = 0;
+    }
+
+    /**
+     * Überprüft, ob die Schlange leer ist.
+     *
+     * @return {@code true}, wenn die Schlange leer ist, {@code false} sonst.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Überprüft, ob eine begrenzte Schlange ihre Kapazität erreicht hat. Eine
+     * wachsende Schlange ist nie voll.
+     *
+     * @return {@code true}, wenn kein weiteres Element aufgenommen werden kann.
+     */
+    public boolean isFull() {
+        return !wachsend && size == feld.length;
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück, ohne es zu
+     * entfernen.
+     *
+     * @return Der Inhalt des ersten Elements.
+     */
+    @SuppressWarnings("unchecked")
+    public T head() {
+        return (T) feld[kopf];
+    }
+
+    /**
+     * Gibt den Inhalt des ersten Elements der Schlange zurück und entfernt es.
+     *
+     * @return Der Inhalt des entfernten Elements.
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        T temp = (T) feld[kopf];
+        feld[kopf] = null; // Verweis freigeben
+        kopf = weiter(kopf);
+        size--;
+        return temp;
+    }
+
+    /**
+     * Fügt ein neues Element mit dem übergebenen Inhalt am Ende der Schlange hinzu.
+     *
+     * @param d Der Inhalt des neuen Elements.
+     * @throws IllegalStateException wenn eine begrenzte Schlange voll ist oder
+     *                               der Puffer nicht weiter wachsen kann.
+     */
+    public void enqueue(T d) {
+        if (!offer(d)) {
+            throw new IllegalStateException("Die Schlange ist voll");
+        }
+    }
+
+    /**
+     * Fügt ein neues Element am Ende der Schlange hinzu, sofern Platz ist.
+     *
+     * @param d Der Inhalt des neuen Elements.
+     * @return {@code true}, wenn das Element aufgenommen wurde, {@code false},
+     *         wenn eine begrenzte Schlange voll ist.
+     * @throws IllegalStateException wenn der Puffer einer wachsenden Schlange
+     *                               schon die größte Länge hat.
+     */
+    public boolean offer(T d) {
+        if (size == feld.length) {
+            if (!wachsend) {
+                return false;
+            }
+            vergroessern();
+        }
+        feld[position(size)] = d;
+        size++;
+        return true;
+    }
+
+    /**
+     * Gibt die Länge der Schlange zurück.
+     *
+     * @return Die Länge der Schlange.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Bestimmt die Position des Elements, das {@code abstand} Plätze hinter dem
+     * Kopf liegt.
+     */
+    private int position(int abstand) {
+        int bisEnde = feld.length - kopf; // kopf + abstand könnte überlaufen
+        return abstand < bisEnde ? kopf + abstand : abstand - bisEnde;
+    }
+
+    /**
+     * Bestimmt die auf {@code p} folgende Position im Ringpuffer.
+     */
+    private int weiter(int p) {
+        return p + 1 < feld.length ? p + 1 : 0;
+    }
+
+    /**
+     * Verdoppelt den Ringpuffer, höchstens bis zur größten möglichen Länge. Die
+     * Inhalte werden dabei so umkopiert, dass der Kopf wieder an Position 0
+     * steht.
+     *
+     * @throws IllegalStateException wenn der Puffer schon die größte Länge hat.
+     */
+    private void vergroessern() {
+        if (feld.length == MAX_LAENGE) {
+            throw new IllegalStateException("Schlange ist voll");
+        }
+        Object[] neu = new Object[feld.length > MAX_LAENGE / 2 ? MAX_LAENGE : feld.length * 2];
+        int bisEnde = feld.length - kopf;
+        System.arraycopy(feld, kopf, neu, 0, bisEnde);
+        System.arraycopy(feld, 0, neu, bisEnde, kopf);
+        feld = neu;
+        kopf = 0;
+    }
+}
@@ -0,0 +1,360 @@
+package adt;
+
+import java.util.function.Consumer;
+
+/**
+ * Implementierung der Klasse SearchTree (balancierter Suchbaum):
+ * <p>
+ * Der SearchTree verwaltet einen {@link BinTree} als binären Suchbaum. Links
+ * eines Knotens liegen nur kleinere, rechts nur größere Inhalte; jeder Inhalt
+ * kommt höchstens einmal vor. Nach jedem Einfügen und Löschen wird der Baum
+ * durch AVL-Rotationen ausgeglichen, sodass sich die Höhen der beiden
+ * Teilbäume jedes Knotens um höchstens eins unterscheiden. Die Höhe des Baumes
+ * bleibt damit in O(log n), und insert, contains und remove benötigen nur
+ * O(log n) Schritte statt eines Durchlaufs durch den ganzen Baum.
+ * <p>
+ * Als Inhalte sind wie beim BinTree Ganzzahlen und Zeichenketten erlaubt.
+ * Ganzzahlen werden der Größe nach, Zeichenketten lexikographisch verglichen;
+ * werden beide gemischt, liegen alle Ganzzahlen vor allen Zeichenketten.
+ * <p>
+ * Mit {@link #getBinTree()} erhält man den zugrunde liegenden Binärbaum, z. B.
+ * um ihn zu zeichnen. Da Rotationen die Wurzel austauschen können, sollte er
+ * nach jeder Änderung neu abgefragt werden.
+ */
+public class SearchTree {
+
+	private BinTree wurzel; // ein Baum ohne Inhalt steht für den leeren Suchbaum
+	private int anzahl;
+
+	/**
+	 * Ein leerer Suchbaum wird angelegt.
+	 */
+	public SearchTree() {
+		wurzel = new BinTree();
+		anzahl = 0;
+	}
+
+	/**
+	 * Gibt den zugrunde liegenden Binärbaum zurück.
+	 *
+	 * @return Die aktuelle Wurzel des Suchbaums.
+	 */
+	public BinTree getBinTree() {
+		return wurzel;
+	}
+
+	/**
+	 * Gibt die Anzahl der Inhalte im Suchbaum zurück.
+	 *
+	 * @return Die Anzahl der Inhalte.
+	 */
+	public int size() {
+		return anzahl;
+	}
+
+	/**
+	 * Wenn der Suchbaum keinen Inhalt besitzt, wird der Wert wahr zurückgegeben,
+	 * sonst der Wert falsch.
+	 *
+	 * @return true, wenn der Suchbaum leer ist, sonst false.
+	 */
+	public boolean isEmpty() {
+		return anzahl == 0;
+	}
+
+	/**
+	 * Fügt eine Ganzzahl in den Suchbaum ein.
+	 *
+	 * @param z Die einzufügende Ganzzahl.
+	 * @return true, wenn die Zahl eingefügt wurde, false, wenn sie schon enthalten
+	 *         war.
+	 */
+	public boolean insert(int z) {
+		return einfuegen(new Schluessel(z));
+	}
+
+	/**
+	 * Fügt eine Zeichenkette in den Suchbaum ein.
+	 *
+	 * @param s Die einzufügende Zeichenkette.
+	 * @return true, wenn die Zeichenkette eingefügt wurde, false, wenn sie schon
+	 *         enthalten war.
+	 */
+	public boolean insert(String s) {
+		return einfuegen(new Schluessel(s));
+	}
+
+	/**
+	 * Prüft, ob die Ganzzahl im Suchbaum enthalten ist.
+	 *
+	 * @param z Die gesuchte Ganzzahl.
+	 * @return true, wenn die Zahl enthalten ist, sonst false.
+	 */
+	public boolean contains(int z) {
+		return suchen(new Schluessel(z)) != null;
+	}
+
+	/**
+	 * Prüft, ob die Zeichenkette im Suchbaum enthalten ist.
+	 *
+	 * @param s Die gesuchte Zeichenkette.
+	 * @return true, wenn die Zeichenkette enthalten ist, sonst false.
+	 */
+	public boolean contains(String s) {
+		return suchen(new Schluessel(s)) != null;
+	}
+
+	/**
+	 * Entfernt die Ganzzahl aus dem Suchbaum.
+	 *
+	 * @param z Die zu entfernende Ganzzahl.
+	 * @return true, wenn die Zahl entfernt wurde, false, wenn sie nicht enthalten
+	 *         war.
+	 */
+	public boolean remove(int z) {
+		return entfernen(new Schluessel(z));
+	}
+
+	/**
+	 * Entfernt die Zeichenkette aus dem Suchbaum.
+	 *
+	 * @param s Die zu entfernende Zeichenkette.
+	 * @return true, wenn die Zeichenkette entfernt wurde, false, wenn sie nicht
+	 *         enthalten war.
+	 */
+	public boolean remove(String s) {
+		return entfernen(new Schluessel(s));
+	}
+
+	/**
+	 * Gibt den kleinsten Inhalt des Suchbaums zurück.
+	 *
+	 * @return Der kleinste Inhalt oder null, wenn der Suchbaum leer ist.
+	 */
+	public BinTree.Inhalt min() {
+		if (isEmpty()) {
+			return null;
+		}
+		return minimum(wurzel).getItem();
+	}
+
+	/**
+	 * Gibt den größten Inhalt des Suchbaums zurück.
+	 *
+	 * @return Der größte Inhalt oder null, wenn der Suchbaum leer ist.
+	 */
+	public BinTree.Inhalt max() {
+		if (isEmpty()) {
+			return null;
+		}
+		BinTree k = wurzel;
+		while (k.getRight() != null) {
+			k = k.getRight();
+		}
+		return k.getItem();
+	}
+
+	/**
+	 * Gibt alle Ganzzahlen zwischen {@code von} und {@code bis} (jeweils
+	 * einschließlich) aufsteigend sortiert zurück. Es werden nur die Teilbäume
+	 * besucht, die im Bereich liegen können.
+	 *
+	 * @param von Die untere Grenze.
+	 * @param bis Die obere Grenze.
+	 * @return Die Zahlen im Bereich.
+	 */
+	public DynArray<Integer> range(int von, int bis) {
+		DynArray<Integer> ergebnis = new DynArray<>(16);
+		bereich(wurzelOderNull(), new Schluessel(von), new Schluessel(bis), i -> ergebnis.append1(i.getZahl()));
+		return ergebnis;
+	}
+
+	/**
+	 * Gibt alle Zeichenketten zwischen {@code von} und {@code bis} (jeweils
+	 * einschließlich) lexikographisch sortiert zurück.
+	 *
+	 * @param von Die untere Grenze.
+	 * @param bis Die obere Grenze.
+	 * @return Die Zeichenketten im Bereich.
+	 */
+	public DynArray<String> range(String von, String bis) {
+		DynArray<String> ergebnis = new DynArray<>(16);
+		bereich(wurzelOderNull(), new Schluessel(von), new Schluessel(bis), i -> ergebnis.append1(i.getText()));
+		return ergebnis;
+	}
+
+	// Interne Hilfsoperationen
+
+	private BinTree wurzelOderNull() {
+		return wurzel.hasItem() ? wurzel : null;
+	}
+
+	private BinTree suchen(Schluessel s) {
+		BinTree k = wurzelOderNull();
+		while (k != null) {
+			int v = s.vergleichen(k.inhalt());
+			if (v == 0) {
+				return k;
+			}
+			k = v < 0 ? k.getLeft() : k.getRight();
+		}
+		return null;
+	}
+
+	private boolean einfuegen(Schluessel s) {
+		int vorher = anzahl;
+		wurzel = einfuegen(wurzelOderNull(), s);
+		return anzahl != vorher;
+	}
+
+	private boolean entfernen(Schluessel s) {
+		int vorher = anzahl;
+		BinTree neu = entfernen(wurzelOderNull(), s);
+		wurzel = neu != null ? neu : new BinTree();
+		return anzahl != vorher;
+	}
+
+	/**
+	 * Fügt den Schlüssel rekursiv in den Teilbaum ein und gleicht ihn auf dem
+	 * Rückweg aus.
+	 *
+	 * @return Die (ggf. neue) Wurzel des Teilbaums.
+	 */
+	private BinTree einfuegen(BinTree k, Schluessel s) {
+		if (k == null) {
+			anzahl++;
+			return s.istText ? new BinTree(s.text) : new BinTree(s.zahl);
+		}
+		int v = s.vergleichen(k.inhalt());
+		if (v < 0) {
+			k.setLeft(einfuegen(k.getLeft(), s));
+		} else if (v > 0) {
+			k.setRight(einfuegen(k.getRight(), s));
+		} else {
+			return k; // schon enthalten
+		}
+		return ausgleichen(k);
+	}
+
+	/**
+	 * Entfernt den Schlüssel rekursiv aus dem Teilbaum und gleicht ihn auf dem
+	 * Rückweg aus. Ein Knoten mit zwei Kindern übernimmt dabei den Inhalt seines
+	 * Nachfolgers, der anschließend aus dem rechten Teilbaum entfernt wird.
+	 *
+	 * @return Die (ggf. neue) Wurzel des Teilbaums oder null, wenn er leer ist.
+	 */
+	private BinTree entfernen(BinTree k, Schluessel s) {
+		if (k == null) {
+			return null;
+		}
+		int v = s.vergleichen(k.inhalt());
+		if (v < 0) {
+			k.setLeft(entfernen(k.getLeft(), s));
+		} else if (v > 0) {
+			k.setRight(entfernen(k.getRight(), s));
+		} else if (k.getLeft() == null || k.getRight() == null) {
+			anzahl--;
+			BinTree kind = k.getLeft() != null ? k.getLeft() : k.getRight();
+			k.setLeft(null); // löst das Kind vom entfernten Knoten, damit es nicht mehr auf ihn verweist
+			k.setRight(null);
+			return kind;
+		} else {
+			BinTree nachfolger = minimum(k.getRight());
+			k.setItem(nachfolger.inhalt());
+			k.setRight(entfernen(k.getRight(), new Schluessel(nachfolger.inhalt())));
+		}
+		return ausgleichen(k);
+	}
+
+	private void bereich(BinTree k, Schluessel von, Schluessel bis, Consumer<BinTree.Inhalt> ziel) {
+		if (k == null) {
+			return;
+		}
+		int vonVergleich = von.vergleichen(k.inhalt());
+		int bisVergleich = bis.vergleichen(k.inhalt());
+		if (vonVergleich < 0) { // links können noch Inhalte ab von liegen
+			bereich(k.getLeft(), von, bis, ziel);
+		}
+		if (vonVergleich <= 0 && bisVergleich >= 0) {
+			ziel.accept(k.inhalt());
+		}
+		if (bisVergleich > 0) { // rechts können noch Inhalte bis bis liegen
+			bereich(k.getRight(), von, bis, ziel);
+		}
+	}
+
+	private static BinTree minimum(BinTree k) {
+		while (k.getLeft() != null) {
+			k = k.getLeft();
+		}
+		return k;
+	}
+
+	private static int hoehe(BinTree k) {
+		return k == null ? 0 : k.getTiefe(); // wird vom BinTree selbst nachgeführt
+	}
+
+	/**
+	 * Stellt für den Knoten die AVL-Bedingung wieder her, nachdem sich einer
+	 * seiner Teilbäume um höchstens eins in der Höhe verändert hat.
+	 *
+	 * @return Die neue Wurzel des Teilbaums.
+	 */
+	private static BinTree ausgleichen(BinTree k) {
+		int balance = hoehe(k.getLeft()) - hoehe(k.getRight());
+		if (balance > 1) { // links zu hoch
+			if (hoehe(k.getLeft().getLeft()) < hoehe(k.getLeft().getRight())) {
+				k.setLeft(k.getLeft().linksRotieren());
+			}
+			return k.rechtsRotieren();
+		}
+		if (balance < -1) { // rechts zu hoch
+			if (hoehe(k.getRight().getRight()) < hoehe(k.getRight().getLeft())) {
+				k.setRight(k.getRight().rechtsRotieren());
+			}
+			return k.linksRotieren();
+		}
+		return k;
+	}
+
+	/**
+	 * Vergleichsschlüssel für eine Ganzzahl oder eine Zeichenkette.
+	 */
+	private static final class Schluessel {
+		final boolean istText;
+		final int zahl;
+		final String text;
+
+		Schluessel(int z) {
+			istText = false;
+			zahl = z;
+			text = "";
+		}
+
+		Schluessel(String s) {
+			istText = true;
+			zahl = -1;
+			text = s;
+		}
+
+		Schluessel(BinTree.Inhalt i) {
+			istText = i.istText();
+			zahl = i.getZahl();
+			text = i.getText();
+		}
+
+		/**
+		 * Vergleicht den Schlüssel mit einem Inhalt des Baumes.
+		 *
+		 * @return Eine negative Zahl, null oder eine positive Zahl, wenn der
+		 *         Schlüssel kleiner, gleich oder größer als der Inhalt ist.
+		 */
+		int vergleichen(BinTree.Inhalt i) {
+			boolean inhaltIstText = i.istText();
+			if (istText != inhaltIstText) {
+				return istText ? 1 : -1; // Zahlen vor Zeichenketten
+			}
+			return istText ? text.compareTo(i.getText()) : Integer.compare(zahl, i.getZahl());
+		}
+	}
+}
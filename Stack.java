@@ -1,5 +1,12 @@
 package adt;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import processing.core.PApplet;
 
 /**
@@ -23,6 +30,16 @@ import processing.core.PApplet;
  * diese zwar universell nutzbar, man benötigt beim Zugriff auf den Stapel dann
  * aber häufig Typecasting.
  * <p>
+ * Der Stapel kann außerdem von oben nach unten durchlaufen werden, ohne ihn zu
+ * verändern (for-each-Schleife, {@link #stream()}).
+ * <p>
+ * Mit {@link #pushAll} und {@link #popN} lassen sich viele Elemente in einem
+ * Durchgang ablegen oder entnehmen.
+ * <p>
+ * Auf Wunsch ({@link #setPoolSize(int)}) hebt der Stapel entfernte Items auf
+ * und verwendet sie beim nächsten push1 wieder, sodass ein ständiger Wechsel
+ * von push1 und pop1 keine neuen Objekte mehr anlegt.
+ * <p>
  * 
  * @param <T> Der Typ der im Stack gespeicherten Elemente.
  * 
@@ -31,20 +48,43 @@ import processing.core.PApplet;
  * @author ChatGPT (Überarbeitungen und Verbesserungen)
  * @version 1.1
  */
-public class Stack<T> {
+public class Stack<T> implements Iterable<T> {
 
 	/**
 	 * Zur Verwaltung des obersten Elements des Stapels.
 	 */
 	private Item top;
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private GUI gui = new GUI(this);
+	/**
+	 * Anzahl der Elemente im Stapel.
+	 */
+	private int anzahl;
+	/**
+	 * Änderungszähler, siehe getAenderungen.
+	 */
+	private int aenderungen;
+	/**
+	 * Visualisierung, wird erst beim ersten Zeichnen angelegt.
+	 */
+	private GUI<T> gui;
+	/**
+	 * Aufgehobene Items zur Wiederverwendung, über below verkettet.
+	 */
+	private Item frei;
+	/**
+	 * Anzahl der aufgehobenen Items.
+	 */
+	private int freiAnzahl;
+	/**
+	 * Höchstzahl aufgehobener Items, 0 schaltet das Aufheben ab.
+	 */
+	private int freiMax;
 
 	/**
 	 * Ein leerer Stapel wird angelegt.
 	 */
 	public Stack() {
 		top = null;
+		anzahl = 0;
 	}
 
 	/**
@@ -80,7 +120,11 @@ public class Stack<T> {
 	 */
 	public T pop1() {
 		T temp = top.data;
+		Item alt = top;
 		top = top.below;
+		zuruecklegen(alt);
+		anzahl--;
+		aenderungen++;
 		return temp;
 	}
 
@@ -90,9 +134,180 @@ public class Stack<T> {
 	 * @param d Der Inhalt des neuen Elements.
 	 */
 	public void push1(T d) {
-		Item i = new Item(d);
+		Item i = neuesItem(d);
 		i.below = top;
 		top = i;
+		anzahl++;
+		aenderungen++;
+	}
+
+	/**
+	 * Alle übergebenen Inhalte werden der Reihe nach auf dem Stapel abgelegt; der
+	 * zuletzt übergebene liegt danach oben. Die neuen Items werden in einem
+	 * Durchlauf verkettet und erst am Ende als Ganzes oben aufgelegt.
+	 * 
+	 * @param inhalte Die abzulegenden Inhalte.
+	 */
+	public void pushAll(Iterable<? extends T> inhalte) {
+		Item oben = top;
+		int n = 0;
+		for (T d : inhalte) {
+			Item i = neuesItem(d);
+			i.below = oben;
+			oben = i;
+			n++;
+		}
+		if (n > 0) {
+			top = oben;
+			anzahl += n;
+			aenderungen++;
+		}
+	}
+
+	/**
+	 * Die obersten n Elemente werden vom Stapel entfernt und ihre Inhalte in der
+	 * Reihenfolge zurückgegeben, in der pop1 sie geliefert hätte. Enthält der
+	 * Stapel weniger Elemente, werden alle entfernt.
+	 * 
+	 * @param n Die Anzahl der zu entfernenden Elemente.
+	 * @return Ein feldbasiertes DynArray mit den entfernten Inhalten, der
+	 *         oberste zuerst.
+	 */
+	public DynArray<T> popN(int n) {
+		int k = Math.max(0, Math.min(n, anzahl));
+		DynArray<T> inhalte = new DynArray<>(k);
+		Item i = top;
+		for (int j = 0; j < k; j++) {
+			inhalte.append1(i.data);
+			Item alt = i;
+			i = i.below;
+			zuruecklegen(alt);
+		}
+		if (k > 0) {
+			top = i;
+			anzahl -= k;
+			aenderungen++;
+		}
+		return inhalte;
+	}
+
+	/**
+	 * Legt fest, wie viele entfernte Items der Stapel höchstens zur
+	 * Wiederverwendung aufhebt. Ihre Inhalte werden dabei gelöscht, damit sie
+	 * nicht länger als nötig im Speicher bleiben. Voreingestellt ist 0, es
+	 * wird also nichts aufgehoben.
+	 * <p>
+	 * Ein Iterator, der während eines pop1 noch auf das entfernte Item zeigt,
+	 * liefert danach keine sinnvollen Werte mehr.
+	 * 
+	 * @param groesse Die Höchstzahl aufgehobener Items.
+	 */
+	public void setPoolSize(int groesse) {
+		freiMax = Math.max(groesse, 0);
+		while (freiAnzahl > freiMax) {
+			frei = frei.below;
+			freiAnzahl--;
+		}
+	}
+
+	/**
+	 * Gibt ein Item mit dem übergebenen Inhalt zurück, wenn möglich ein
+	 * aufgehobenes.
+	 */
+	private Item neuesItem(T d) {
+		Item i = frei;
+		if (i == null) {
+			return new Item(d);
+		}
+		frei = i.below;
+		freiAnzahl--;
+		i.data = d;
+		i.below = null;
+		return i;
+	}
+
+	/**
+	 * Hebt ein entferntes Item ohne seinen Inhalt auf, solange noch Platz ist.
+	 */
+	private void zuruecklegen(Item i) {
+		if (freiAnzahl < freiMax) {
+			i.data = null;
+			i.below = frei;
+			frei = i;
+			freiAnzahl++;
+		}
+	}
+
+	/**
+	 * Gibt die Anzahl der Elemente im Stapel zurück.
+	 * 
+	 * @return Die Anzahl der Elemente.
+	 */
+	int size() {
+		return anzahl;
+	}
+
+	/**
+	 * Gibt den Änderungszähler zurück. Er wird bei jedem push1 und pop1 (und
+	 * einmal je pushAll und popN) erhöht; solange er gleich bleibt, muss die GUI
+	 * nicht neu zeichnen.
+	 * 
+	 * @return Der Änderungszähler.
+	 */
+	int getAenderungen() {
+		return aenderungen;
+	}
+
+	/**
+	 * Gibt das oberste Item zurück, damit die GUI die Kette über below ablaufen
+	 * kann, ohne den Stapel zu verändern oder Objekte anzulegen. Die Items
+	 * dürfen dabei nur gelesen werden.
+	 * 
+	 * @return Das oberste Item oder null, wenn der Stapel leer ist.
+	 */
+	Item getTopItem() {
+		return top;
+	}
+
+	/**
+	 * Gibt einen Iterator zurück, der die Inhalte von oben nach unten liefert,
+	 * ohne den Stapel zu verändern.
+	 * 
+	 * @return Ein Iterator über die Inhalte des Stapels.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new StackIterator();
+	}
+
+	/**
+	 * Gibt einen Spliterator mit bekannter Größe zurück, der sich für die
+	 * parallele Verarbeitung aufteilen lässt.
+	 * 
+	 * @return Ein Spliterator über die Inhalte des Stapels.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), anzahl, Spliterator.ORDERED);
+	}
+
+	/**
+	 * Gibt einen sequentiellen Stream über die Inhalte von oben nach unten
+	 * zurück.
+	 * 
+	 * @return Ein Stream über die Inhalte des Stapels.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Gibt einen parallelen Stream über die Inhalte des Stapels zurück.
+	 * 
+	 * @return Ein paralleler Stream über die Inhalte des Stapels.
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
 	}
 
 	/**
@@ -101,7 +316,7 @@ public class Stack<T> {
 	 * @param sketch Das PApplet-Objekt für die Visualisierung.
 	 */
 	public void drawStack(PApplet sketch) {
-		gui.drawStack(sketch);
+		gui().drawStack(sketch);
 	}
 
 	/**
@@ -111,13 +326,47 @@ public class Stack<T> {
 	 * @param x      Die vorgegebene Stelle.
 	 */
 	public void drawStack(PApplet sketch, float x) {
-		gui.drawStack(sketch, x);
+		gui().drawStack(sketch, x);
+	}
+
+	/**
+	 * Gibt die Visualisierung zurück und legt sie beim ersten Aufruf an.
+	 * 
+	 * @return Die GUI dieses Stacks.
+	 */
+	private GUI<T> gui() {
+		if (gui == null) {
+			gui = new GUI<>(this);
+		}
+		return gui;
+	}
+
+	/**
+	 * Iterator, der die Item-Kette von oben nach unten abläuft.
+	 */
+	private class StackIterator implements Iterator<T> {
+		private Item aktuell = top;
+
+		@Override
+		public boolean hasNext() {
+			return aktuell != null;
+		}
+
+		@Override
+		public T next() {
+			if (aktuell == null) {
+				throw new NoSuchElementException();
+			}
+			T data = aktuell.data;
+			aktuell = aktuell.below;
+			return data;
+		}
 	}
 
 	/**
 	 * Klasse Item zur internen Verwaltung der einzelnen Elemente des Stacks
 	 */
-	private class Item {
+	class Item {
 		/**
 		 * Die im Item gespeicherten Daten.
 		 */
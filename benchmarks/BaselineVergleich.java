@@ -0,0 +1,119 @@
+package adt;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vergleicht die CSV-Ergebnisse einer Operationsreihe ({@code gradle jmhOps})
+ * mit der eingecheckten Grundlinie {@code benchmarks/baseline/ops.csv} und
+ * listet alle Messwerte auf, die um mehr als einen Faktor schlechter geworden
+ * sind. Verglichen werden nur der Hauptwert (Durchsatz bzw. mittlere Dauer)
+ * und {@code gc.alloc.rate.norm}; die Perzentile schwanken auch bei gleichem
+ * Code so stark, dass sie nicht über Erfolg oder Fehlschlag entscheiden.
+ * <p>
+ * Die Zeiten sind nur auf dem Rechner vergleichbar, auf dem die Grundlinie
+ * aufgenommen wurde, und nur mit denselben Einstellungen wie die Reihe selbst
+ * (ohne {@code -PjmhArgs}). Auf einem anderen Rechner zuerst mit
+ * {@code gradle jmhOps} eine eigene Grundlinie aufnehmen und nach
+ * {@code benchmarks/baseline/ops.csv} kopieren; die Allokation je Operation
+ * hängt dagegen kaum vom Rechner ab.
+ * <p>
+ * Gibt es Verschlechterungen, endet das Programm mit dem Code 1.
+ * <p>
+ * Aufruf: {@code gradle jmhCompare} oder
+ * {@code gradle jmh -PjmhMain=adt.BaselineVergleich -PjmhArgs="<grundlinie.csv> <neu.csv> [faktor]"}
+ */
+public class BaselineVergleich {
+
+    /**
+     * Voreingestellter Faktor, ab dem ein Messwert als verschlechtert gilt.
+     */
+    static final double FAKTOR = 1.25;
+
+    /**
+     * Unterschied in Byte je Operation, der bei der Allokation noch als
+     * Rauschen gilt.
+     */
+    static final double BYTE_TOLERANZ = 8;
+
+    private static final Set<String> VERGLICHEN = Set.of("", "gc.alloc.rate.norm");
+
+    private record Messwert(String name, double wert, String einheit) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Aufruf: BaselineVergleich <grundlinie.csv> <neu.csv> [faktor]");
+            System.exit(2);
+        }
+        double faktor = args.length > 2 ? Double.parseDouble(args[2]) : FAKTOR;
+        Map<String, Messwert> alt = lesen(Path.of(args[0]));
+        Map<String, Messwert> neu = lesen(Path.of(args[1]));
+
+        int verglichen = 0;
+        int schlechter = 0;
+        for (Map.Entry<String, Messwert> e : neu.entrySet()) {
+            Messwert vorher = alt.get(e.getKey());
+            if (vorher == null) {
+                continue;
+            }
+            Messwert jetzt = e.getValue();
+            verglichen++;
+            double verhaeltnis = verschlechterung(vorher, jetzt);
+            if (verhaeltnis > faktor) {
+                schlechter++;
+                System.out.printf("SCHLECHTER x%.2f  %s: %.4g -> %.4g %s%n", verhaeltnis, jetzt.name(), vorher.wert(),
+                        jetzt.wert(), jetzt.einheit());
+            }
+        }
+        System.out.printf("%d Messwerte verglichen, %d schlechter als Faktor %.2f, %d ohne Grundlinie%n", verglichen,
+                schlechter, faktor, neu.size() - verglichen);
+        if (schlechter > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Gibt zurück, um welchen Faktor der neue Wert schlechter ist als der alte
+     * (kleiner als 1 bei einer Verbesserung). Beim Durchsatz ist ein größerer
+     * Wert besser, bei Zeiten und Allokation ein kleinerer.
+     */
+    private static double verschlechterung(Messwert vorher, Messwert jetzt) {
+        if (jetzt.einheit().equals("B/op") && jetzt.wert() - vorher.wert() <= BYTE_TOLERANZ) {
+            return 1;
+        }
+        if (jetzt.einheit().startsWith("ops/")) {
+            return vorher.wert() / jetzt.wert();
+        }
+        return vorher.wert() > 0 ? jetzt.wert() / vorher.wert() : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Liest eine CSV-Datei von JMH ({@code -rf csv}). Schlüssel sind Name,
+     * Modus und alle Parameter eines Messwerts.
+     */
+    private static Map<String, Messwert> lesen(Path datei) throws IOException {
+        Map<String, Messwert> werte = new LinkedHashMap<>();
+        List<String> zeilen = Files.readAllLines(datei);
+        for (String zeile : zeilen.subList(1, zeilen.size())) {
+            String[] spalten = zeile.replace("\"", "").split(",");
+            String name = spalten[0];
+            int doppelpunkt = name.indexOf(':');
+            if (!VERGLICHEN.contains(doppelpunkt < 0 ? "" : name.substring(doppelpunkt + 1))) {
+                continue;
+            }
+            StringBuilder schluessel = new StringBuilder(name).append(' ').append(spalten[1]);
+            for (int i = 7; i < spalten.length; i++) {
+                schluessel.append(' ').append(spalten[i]);
+            }
+            werte.put(schluessel.toString(),
+                    new Messwert(schluessel.toString(), Double.parseDouble(spalten[4]), spalten[6]));
+        }
+        return werte;
+    }
+}
@@ -0,0 +1,134 @@
+package adt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Einzeloperationen im Vergleich zu den Sammeloperationen: Ein Stapel von
+ * {@code n} Inhalten wird in ein DynArray, einen Stack und eine Queue gebracht
+ * und wieder herausgeholt, einmal Element für Element und einmal am Stück.
+ * Beim feldbasierten DynArray wird der Stapel in die Mitte eines ebenso langen
+ * Feldes eingefügt und wieder gelöscht.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="BatchBenchmark -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({ "10000" })
+    public int n;
+
+    private List<Integer> stapel;
+    private DynArray<Integer> feld;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        stapel = new ArrayList<>(n);
+        feld = new DynArray<>(2 * n);
+        for (int i = 0; i < n; i++) {
+            stapel.add(i);
+            feld.append1(i);
+        }
+    }
+
+    @Benchmark
+    public DynArray<Integer> dynArrayEinzeln() {
+        DynArray<Integer> reihung = new DynArray<>();
+        for (Integer inhalt : stapel) {
+            reihung.append1(inhalt);
+        }
+        while (!reihung.isEmpty()) {
+            reihung.delete(0);
+        }
+        return reihung;
+    }
+
+    @Benchmark
+    public DynArray<Integer> dynArraySammel() {
+        DynArray<Integer> reihung = new DynArray<>();
+        reihung.appendAll(stapel);
+        reihung.deleteRange(0, reihung.getLength());
+        return reihung;
+    }
+
+    @Benchmark
+    public DynArray<Integer> feldEinzeln() {
+        int mitte = n / 2;
+        for (int i = 0; i < n; i++) {
+            feld.insertAt(mitte + i, stapel.get(i));
+        }
+        for (int i = 0; i < n; i++) {
+            feld.delete(mitte);
+        }
+        return feld;
+    }
+
+    @Benchmark
+    public DynArray<Integer> feldSammel() {
+        int mitte = n / 2;
+        feld.insertAllAt(mitte, stapel);
+        feld.deleteRange(mitte, mitte + n);
+        return feld;
+    }
+
+    @Benchmark
+    public List<Integer> stackEinzeln() {
+        Stack<Integer> s = new Stack<>();
+        for (Integer inhalt : stapel) {
+            s.push1(inhalt);
+        }
+        List<Integer> ziel = new ArrayList<>(n);
+        while (!s.isEmpty()) {
+            ziel.add(s.pop1());
+        }
+        return ziel;
+    }
+
+    @Benchmark
+    public DynArray<Integer> stackSammel() {
+        Stack<Integer> s = new Stack<>();
+        s.pushAll(stapel);
+        return s.popN(n);
+    }
+
+    @Benchmark
+    public List<Integer> queueEinzeln() {
+        Queue<Integer> q = new Queue<>();
+        for (Integer inhalt : stapel) {
+            q.enqueue(inhalt);
+        }
+        List<Integer> ziel = new ArrayList<>(n);
+        while (!q.isEmpty()) {
+            ziel.add(q.dequeue());
+        }
+        return ziel;
+    }
+
+    @Benchmark
+    public List<Integer> queueSammel() {
+        Queue<Integer> q = new Queue<>();
+        q.enqueueAll(stapel);
+        List<Integer> ziel = new ArrayList<>(n);
+        q.drainTo(ziel, n);
+        return ziel;
+    }
+}
@@ -0,0 +1,67 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Aufbau eines Binärbaums mit n Zahlen: einzeln über
+ * {@code addNodeToTree} gegenüber dem ausgeglichenen Aufbau aus einem
+ * sortierten Feld mit {@link BinTree#balanciert(int[])}, sowie das Auslesen
+ * der sortierten Zahlen mit {@link BinTree#inorderZahlen()}.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="BinTreeBuild"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinTreeBuildBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int n;
+
+    private int[] sortiert;
+    private BinTree baum;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        sortiert = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortiert[i] = i;
+        }
+        baum = BinTree.balanciert(sortiert);
+    }
+
+    @Benchmark
+    public BinTree einzeln() {
+        BinTree b = new BinTree();
+        for (int i = 0; i < n; i++) {
+            b.addNodeToTree(sortiert[i]);
+        }
+        return b;
+    }
+
+    @Benchmark
+    public BinTree balanciert() {
+        return BinTree.balanciert(sortiert);
+    }
+
+    @Benchmark
+    public int[] inorderZahlen() {
+        return baum.inorderZahlen();
+    }
+}
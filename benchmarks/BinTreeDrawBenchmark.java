@@ -0,0 +1,101 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import processing.core.PApplet;
+
+/**
+ * Kosten eines Frames beim Zeichnen eines großen Binärbaums. {@code frame}
+ * ruft {@link BinTree#drawBinTree(PApplet)} auf einem Sketch ohne Fenster auf,
+ * {@code frameVergroessert} zeichnet denselben Baum achtfach vergrößert, sodass
+ * nur ein kleiner Ausschnitt sichtbar ist. Beide zeichnen einen unveränderten
+ * Baum und kopieren daher nur das Pufferbild der GUI; {@code frameGeaendert}
+ * ändert vorher die Wurzel, sodass Layout und Bild neu entstehen, und
+ * {@code layout} misst nur die Berechnung des {@link BinTreeLayout}.
+ * {@code tiefeGespeichert} misst nur das Auslesen der nachgeführten Tiefe und
+ * {@code tiefeDurchlauf} zum Vergleich einen vollständigen Durchlauf, wie ihn
+ * getTiefe früher in jedem Frame ausgeführt hat.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="BinTreeDraw"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinTreeDrawBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int n;
+
+    private BinTree baum;
+    private PApplet sketch;
+    private BinTreeGUI lupe;
+    private final BinTreeLayout layout = new BinTreeLayout();
+    private final BinTreeTraversal traversal = new BinTreeTraversal();
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        baum = new BinTree(0);
+        for (int i = 1; i < n; i++) {
+            baum.addNodeToTree(i);
+        }
+        sketch = Zeichenflaeche.erzeugen(800, 600);
+        lupe = new BinTreeGUI(baum);
+        lupe.scaleFactor = 8;
+        lupe.translateX = -7 * sketch.width / 2f; // Wurzel bleibt waagerecht in der Mitte
+    }
+
+    @Benchmark
+    public PApplet frame() {
+        sketch.background(200);
+        baum.drawBinTree(sketch);
+        return sketch;
+    }
+
+    @Benchmark
+    public PApplet frameVergroessert() {
+        sketch.resetMatrix();
+        sketch.background(200);
+        lupe.drawBinTree(sketch);
+        return sketch;
+    }
+
+    @Benchmark
+    public PApplet frameGeaendert() {
+        baum.getItem().setZahl(0);
+        sketch.background(200);
+        baum.drawBinTree(sketch);
+        return sketch;
+    }
+
+    @Benchmark
+    public BinTreeLayout layout() {
+        layout.berechnen(baum);
+        return layout;
+    }
+
+    @Benchmark
+    public int tiefeGespeichert() {
+        return baum.getTiefe();
+    }
+
+    @Benchmark
+    public int tiefeDurchlauf() {
+        return traversal.tiefe(baum);
+    }
+}
@@ -0,0 +1,75 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Teil der Operationsreihe ({@code gradle jmhOps}): {@link BinTree} mit n =
+ * 10² bis 10⁷ zufällig verteilten Knoten. getTiefe und size lesen die
+ * gespeicherten Angaben, tiefeDurchlauf bestimmt die Tiefe durch einen
+ * vollständigen Durchlauf. addNodeToTree baut bei jedem Aufruf einen neuen
+ * Baum aus n Knoten auf, da jeder Aufruf den Baum wachsen lässt; die Zeit
+ * wird daher in Millisekunden je Baum angegeben.
+ *
+ * Aufruf einzeln: {@code gradle jmh -PjmhArgs="BinTreeOps -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BinTreeOpsBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000", "1000000", "10000000" })
+    public int n;
+
+    private BinTree baum;
+    private final BinTreeTraversal traversal = new BinTreeTraversal();
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        baum = aufbauen(n);
+    }
+
+    private static BinTree aufbauen(int n) {
+        BinTree b = new BinTree();
+        for (int i = 0; i < n; i++) {
+            b.addNodeToTree(i);
+        }
+        return b;
+    }
+
+    @Benchmark
+    public int getTiefe() {
+        return baum.getTiefe();
+    }
+
+    @Benchmark
+    public int size() {
+        return baum.size();
+    }
+
+    @Benchmark
+    public int tiefeDurchlauf() {
+        return traversal.tiefe(baum);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BinTree addNodeToTree() {
+        return aufbauen(n);
+    }
+}
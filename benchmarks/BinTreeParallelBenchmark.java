@@ -0,0 +1,72 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summe aller Zahlen und Suche in einem ausgeglichenen Baum mit n Knoten:
+ * nacheinander mit {@link BinTreeTraversal} gegenüber
+ * {@link BinTree#parallelReduce} und {@link BinTree#parallelFind} bei
+ * verschiedenen Schwellen. Die Parallelität richtet sich nach dem gemeinsamen
+ * ForkJoinPool; für eine Reihe über die Kernzahl z. B.
+ * {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=4}
+ * übergeben.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="BinTreeParallel"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinTreeParallelBenchmark {
+
+    @Param({ "4000000" })
+    public int n;
+
+    @Param({ "1024", "8192", "65536" })
+    public int schwelle;
+
+    private BinTree baum;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        baum = BinTree.balanciert(IntStream.range(0, n));
+    }
+
+    @Benchmark
+    public long summeSequentiell() {
+        long[] summe = { 0 };
+        new BinTreeTraversal().preOrder(baum, k -> summe[0] += k.getItem().getZahl());
+        return summe[0];
+    }
+
+    @Benchmark
+    public long summeParallel() {
+        return baum.parallelReduce(0L, i -> (long) i.getZahl(), Long::sum, schwelle);
+    }
+
+    @Benchmark
+    public BinTree sucheParallel() {
+        return baum.parallelFind(i -> i.getZahl() == -1, schwelle); // nicht vorhanden: ganzer Baum
+    }
+
+    @Benchmark
+    public int hoeheParallel() {
+        return baum.parallelHeight(schwelle);
+    }
+}
@@ -0,0 +1,78 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Durchsatz einer von allen Threads geteilten Schlange: Jeder Thread führt
+ * abwechselnd enqueue und dequeue aus. Verglichen werden die lock-freie
+ * {@link ConcurrentQueue} und eine {@link Queue}, deren Aufrufe über eine
+ * gemeinsame Sperre laufen.
+ *
+ * Ein einzelner Lauf mit fester Threadzahl: {@code gradle jmh
+ * -PjmhArgs="ConcurrentQueueBenchmark -t 8"}. Die Reihe 1 bis 32 Threads
+ * startet {@link #main(String[])}: {@code gradle jmh
+ * -PjmhMain=adt.ConcurrentQueueBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+
+    private ConcurrentQueue<Integer> concurrentQueue;
+    private Queue<Integer> queue;
+    private final Object sperre = new Object();
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        concurrentQueue = new ConcurrentQueue<>();
+        queue = new Queue<>();
+        for (int i = 0; i < 1000; i++) {
+            concurrentQueue.enqueue(wert);
+            queue.enqueue(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer lockFrei() {
+        concurrentQueue.enqueue(wert);
+        return concurrentQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer gesperrt() {
+        synchronized (sperre) {
+            queue.enqueue(wert);
+        }
+        synchronized (sperre) {
+            return queue.dequeue();
+        }
+    }
+
+    /**
+     * Führt den Benchmark nacheinander mit 1, 2, 4, 8, 16 und 32 Threads aus und
+     * gibt anschließend eine Übersicht des Durchsatzes aus.
+     *
+     * @param args Wird nicht ausgewertet.
+     * @throws RunnerException wenn JMH den Lauf nicht ausführen kann.
+     */
+    public static void main(String[] args) throws RunnerException {
+        ThreadReihe.ausfuehren(ConcurrentQueueBenchmark.class);
+    }
+}
@@ -0,0 +1,75 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Durchsatz eines von allen Threads geteilten Stapels, wie er als gemeinsamer
+ * Arbeitsvorrat genutzt wird: Jeder Thread führt abwechselnd push1 und pop1
+ * aus. Verglichen werden der lock-freie {@link ConcurrentStack} und ein
+ * {@link Stack}, dessen Aufrufe über eine gemeinsame Sperre laufen.
+ *
+ * Die Reihe 1 bis 32 Threads startet {@link #main(String[])}: {@code gradle jmh
+ * -PjmhMain=adt.ConcurrentStackBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+    private ConcurrentStack<Integer> concurrentStack;
+    private Stack<Integer> stack;
+    private final Object sperre = new Object();
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        concurrentStack = new ConcurrentStack<>();
+        stack = new Stack<>();
+        for (int i = 0; i < 1000; i++) {
+            concurrentStack.push1(wert);
+            stack.push1(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer lockFrei() {
+        concurrentStack.push1(wert);
+        return concurrentStack.pop1();
+    }
+
+    @Benchmark
+    public Integer gesperrt() {
+        synchronized (sperre) {
+            stack.push1(wert);
+        }
+        synchronized (sperre) {
+            return stack.pop1();
+        }
+    }
+
+    /**
+     * Führt den Benchmark nacheinander mit 1 bis 32 Threads aus.
+     *
+     * @param args Wird nicht ausgewertet.
+     * @throws RunnerException wenn JMH den Lauf nicht ausführen kann.
+     */
+    public static void main(String[] args) throws RunnerException {
+        ThreadReihe.ausfuehren(ConcurrentStackBenchmark.class);
+    }
+}
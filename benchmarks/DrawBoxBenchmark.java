@@ -0,0 +1,56 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import processing.core.PApplet;
+
+/**
+ * Kosten eines Frames, wenn jede Box lesbar groß ist und ihr Text verkleinert
+ * werden muss. Der Sketch wächst mit n, sodass jede Box 40 Pixel breit ist; im
+ * eingeschwungenen Zustand liegen alle Schriftgrößen im Cache der GUI.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="DrawBox -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DrawBoxBenchmark {
+
+    @Param({ "100", "500" })
+    public int n;
+
+    private DynArray<String> reihung;
+    private PApplet sketch;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        reihung = new DynArray<>();
+        for (int i = 0; i < n; i++) {
+            reihung.append1("Inhalt " + i);
+        }
+        sketch = Zeichenflaeche.erzeugen(Math.round(n * 40 / 0.98f), 200);
+    }
+
+    @Benchmark
+    public PApplet frame() {
+        sketch.background(255);
+        reihung.drawDynArray(sketch);
+        return sketch;
+    }
+}
@@ -0,0 +1,98 @@
+package adt;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Teil der Operationsreihe ({@code gradle jmhOps}): die Grundoperationen des
+ * {@link DynArray} in beiden Speicherformen für n = 10² bis 10⁷. Einfügen
+ * und Löschen werden paarweise gemessen, damit die Länge während der Messung
+ * n bleibt; getItem und setItem greifen auf zufällige Indizes zu.
+ *
+ * Aufruf einzeln: {@code gradle jmh -PjmhArgs="DynArrayOps -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DynArrayOpsBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000", "1000000", "10000000" })
+    public int n;
+
+    @Param({ "verkettet", "feld" })
+    public String speicher;
+
+    private DynArray<Integer> reihung;
+    private final int[] indizes = new int[1024];
+    private int position;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        reihung = speicher.equals("feld") ? new DynArray<>(n) : new DynArray<>();
+        for (int i = 0; i < n; i++) {
+            reihung.append1(wert);
+        }
+        Random zufall = new Random(1);
+        for (int i = 0; i < indizes.length; i++) {
+            indizes[i] = zufall.nextInt(n);
+        }
+    }
+
+    private int naechsterIndex() {
+        position = (position + 1) & (indizes.length - 1);
+        return indizes[position];
+    }
+
+    @Benchmark
+    public Integer getItem() {
+        return reihung.getItem(naechsterIndex());
+    }
+
+    @Benchmark
+    public DynArray<Integer> setItem() {
+        reihung.setItem(naechsterIndex(), wert);
+        return reihung;
+    }
+
+    @Benchmark
+    public DynArray<Integer> append1Delete() {
+        reihung.append1(wert);
+        reihung.delete(n);
+        return reihung;
+    }
+
+    @Benchmark
+    public DynArray<Integer> insertAtDeleteMitte() {
+        reihung.insertAt(n / 2, wert);
+        reihung.delete(n / 2);
+        return reihung;
+    }
+
+    @Benchmark
+    public int durchlaufen() {
+        int anzahl = 0;
+        for (Integer inhalt : reihung) {
+            if (inhalt != null) {
+                anzahl++;
+            }
+        }
+        return anzahl;
+    }
+}
@@ -0,0 +1,73 @@
+package adt;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import processing.core.PApplet;
+
+/**
+ * Kosten von {@link DynArray#drawDynArray(PApplet)} und
+ * {@link DynArray#print()} für ein verkettetes DynArray. Die Konsolenausgabe
+ * wird während der Messung verworfen, sie wird aber weiterhin bei
+ * jedem Aufruf von {@code PApplet.print} geleert.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="DynArrayRender -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynArrayRenderBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int n;
+
+    private DynArray<String> reihung;
+    private PApplet sketch;
+    private PrintStream konsole;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        reihung = new DynArray<>();
+        for (int i = 0; i < n; i++) {
+            reihung.append1(Integer.toString(i));
+        }
+        sketch = Zeichenflaeche.erzeugen(800, 600);
+        konsole = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void abbauen() {
+        System.setOut(konsole);
+    }
+
+    @Benchmark
+    public PApplet frame() {
+        sketch.background(255);
+        reihung.drawDynArray(sketch);
+        return sketch;
+    }
+
+    @Benchmark
+    public void print() {
+        reihung.print();
+    }
+}
@@ -0,0 +1,68 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Vergleich der verketteten und der feldbasierten Speicherung eines
+ * {@link DynArray}: Indexschleife über alle Elemente und Aufbau durch
+ * wiederholtes append1.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynArrayStorageBenchmark {
+
+    @Param({ "verkettet", "feld" })
+    public String speicher;
+
+    @Param({ "1000", "10000" })
+    public int n;
+
+    private DynArray<Integer> array;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        array = neuesArray();
+        for (int i = 0; i < n; i++) {
+            array.append1(i);
+        }
+    }
+
+    private DynArray<Integer> neuesArray() {
+        return speicher.equals("feld") ? new DynArray<>(16) : new DynArray<>();
+    }
+
+    @Benchmark
+    public long indexSchleife() {
+        long summe = 0;
+        for (int i = 0; i < n; i++) {
+            summe += array.getItem(i);
+        }
+        return summe;
+    }
+
+    @Benchmark
+    public DynArray<Integer> appendAufbau() {
+        DynArray<Integer> neu = neuesArray();
+        for (int i = 0; i < n; i++) {
+            neu.append1(i);
+        }
+        return neu;
+    }
+}
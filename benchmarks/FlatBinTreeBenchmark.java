@@ -0,0 +1,92 @@
+package adt;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Durchlauf eines vollständigen Binärbaums mit n Zahlen: einmal als
+ * {@link BinTree} aus Objekten, einmal als {@link FlatBinTree}. Jeder
+ * Durchlauf bildet die Summe aller Zahlen in Preorder. Die BinTree-Knoten
+ * werden in zufälliger Reihenfolge angelegt, damit sie wie bei einem über
+ * längere Zeit gewachsenen Baum im Speicher verstreut liegen.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="FlatBinTree"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatBinTreeBenchmark {
+
+    @Param({ "1000", "1000000" })
+    public int n;
+
+    private BinTree baum;
+    private FlatBinTree flach;
+    private final BinTreeTraversal traversal = new BinTreeTraversal();
+    private long summe;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        int[] reihenfolge = new int[n];
+        for (int i = 0; i < n; i++) {
+            reihenfolge[i] = i;
+        }
+        Random zufall = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = zufall.nextInt(i + 1);
+            int t = reihenfolge[i];
+            reihenfolge[i] = reihenfolge[j];
+            reihenfolge[j] = t;
+        }
+        BinTree[] knoten = new BinTree[n];
+        for (int i : reihenfolge) {
+            knoten[i] = new BinTree(i);
+        }
+        // von unten nach oben verbinden: Knoten i hat die Kinder 2i+1 und 2i+2
+        for (int i = n - 1; i > 0; i--) {
+            BinTree eltern = knoten[(i - 1) / 2];
+            if (i % 2 == 1) {
+                eltern.setLeft(knoten[i]);
+            } else {
+                eltern.setRight(knoten[i]);
+            }
+        }
+        baum = knoten[0];
+        flach = FlatBinTree.fromBinTree(baum);
+    }
+
+    @Benchmark
+    public long objektbaum() {
+        summe = 0;
+        traversal.preOrder(baum, k -> summe += k.getItem().getZahl());
+        return summe;
+    }
+
+    @Benchmark
+    public long flacherBaum() {
+        summe = 0;
+        flach.preOrder(k -> summe += flach.getZahl(k));
+        return summe;
+    }
+
+    @Benchmark
+    public long flacherBaumSumme() {
+        return flach.summeZahlen();
+    }
+}
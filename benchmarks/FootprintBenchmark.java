@@ -0,0 +1,82 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Speicherbedarf beim Aufbau der Datenstrukturen. Jede Benchmark-Operation
+ * erzeugt eine Struktur mit n Elementen. Mit {@code -prof gc} gestartet,
+ * liefert {@code gc.alloc.rate.norm} die allokierten Bytes pro Operation;
+ * geteilt durch n ergibt sich der Speicherbedarf pro Element.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="Footprint -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FootprintBenchmark {
+
+    @Param({ "1000" })
+    public int n;
+
+    @Benchmark
+    public Stack<Integer> stack() {
+        Stack<Integer> stack = new Stack<>();
+        for (int i = 0; i < n; i++) {
+            stack.push1(i);
+        }
+        return stack;
+    }
+
+    @Benchmark
+    public Queue<Integer> queue() {
+        Queue<Integer> queue = new Queue<>();
+        for (int i = 0; i < n; i++) {
+            queue.enqueue(i);
+        }
+        return queue;
+    }
+
+    @Benchmark
+    public DynArray<Integer> dynArray() {
+        DynArray<Integer> array = new DynArray<>();
+        for (int i = 0; i < n; i++) {
+            array.append1(i);
+        }
+        return array;
+    }
+
+    /**
+     * Baut einen vollständigen Binärbaum mit n Knoten auf (Knoten i hat die
+     * Kinder 2i+1 und 2i+2).
+     */
+    @Benchmark
+    public BinTree binTree() {
+        BinTree[] knoten = new BinTree[n];
+        for (int i = 0; i < n; i++) {
+            knoten[i] = new BinTree(i);
+            if (i > 0) {
+                BinTree eltern = knoten[(i - 1) / 2];
+                if (i % 2 == 1) {
+                    eltern.setLeft(knoten[i]);
+                } else {
+                    eltern.setRight(knoten[i]);
+                }
+            }
+        }
+        return knoten[0];
+    }
+}
@@ -0,0 +1,90 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Momentaufnahmen und Dauerbetrieb: Eine Momentaufnahme eines {@link Stack}
+ * verlangt eine Kopie aller Items, bei {@link PersistentStack} und
+ * {@link PersistentQueue} genügt der Verweis auf die aktuelle Version. Der
+ * Dauerbetrieb misst je ein enqueue und dequeue bei gleichbleibender Länge.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="Persistent -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentBenchmark {
+
+    @Param({ "1000" })
+    public int n;
+
+    private Stack<Integer> stack;
+    private PersistentStack<Integer> persistentStack;
+    private Queue<Integer> queue;
+    private PersistentQueue<Integer> persistentQueue;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        stack = new Stack<>();
+        persistentStack = new PersistentStack<>();
+        queue = new Queue<>();
+        persistentQueue = new PersistentQueue<>();
+        for (int i = 0; i < n; i++) {
+            stack.push1(wert);
+            persistentStack = persistentStack.push(wert);
+            queue.enqueue(wert);
+            persistentQueue = persistentQueue.enqueue(wert);
+        }
+    }
+
+    /**
+     * Kopie des Stapels über einen Hilfsstapel, damit die Reihenfolge erhalten
+     * bleibt.
+     */
+    @Benchmark
+    public Stack<Integer> stackKopie() {
+        Stack<Integer> umgedreht = new Stack<>();
+        for (Integer i : stack) {
+            umgedreht.push1(i);
+        }
+        Stack<Integer> kopie = new Stack<>();
+        while (!umgedreht.isEmpty()) {
+            kopie.push1(umgedreht.pop1());
+        }
+        return kopie;
+    }
+
+    @Benchmark
+    public PersistentStack<Integer> persistentStackSchnappschuss() {
+        return persistentStack;
+    }
+
+    @Benchmark
+    public Integer queueDauerbetrieb() {
+        queue.enqueue(wert);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer persistentQueueDauerbetrieb() {
+        persistentQueue = persistentQueue.enqueue(wert).dequeue();
+        return persistentQueue.head();
+    }
+}
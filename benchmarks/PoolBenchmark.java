@@ -0,0 +1,80 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dauerbetrieb von {@link Stack}, {@link Queue} und verkettetem
+ * {@link DynArray} bei gleichbleibender Größe, ohne ({@code pool = 0}) und mit
+ * aufgehobenen Knoten ({@code setPoolSize}). Mit {@code -prof gc} zeigt
+ * {@code gc.alloc.rate.norm}, dass mit Pool keine Bytes mehr pro Operation
+ * angelegt werden.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="PoolBenchmark -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolBenchmark {
+
+    @Param({ "1000" })
+    public int n;
+
+    @Param({ "0", "64" })
+    public int pool;
+
+    private Stack<Integer> stack;
+    private Queue<Integer> queue;
+    private DynArray<Integer> reihung;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        stack = new Stack<>();
+        queue = new Queue<>();
+        reihung = new DynArray<>();
+        stack.setPoolSize(pool);
+        queue.setPoolSize(pool);
+        reihung.setPoolSize(pool);
+        for (int i = 0; i < n; i++) {
+            stack.push1(wert);
+            queue.enqueue(wert);
+            reihung.append1(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer stackDauerbetrieb() {
+        stack.push1(wert);
+        return stack.pop1();
+    }
+
+    @Benchmark
+    public Integer queueDauerbetrieb() {
+        queue.enqueue(wert);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer dynArrayDauerbetrieb() {
+        reihung.append1(wert);
+        Integer inhalt = reihung.getItem(0);
+        reihung.delete(0);
+        return inhalt;
+    }
+}
@@ -0,0 +1,86 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Vergleich der verketteten {@link Queue} mit der {@link RingQueue}:
+ * Dauerbetrieb (je ein enqueue und dequeue bei gleichbleibender Länge) sowie
+ * Füllen und vollständiges Leeren. Mit {@code -prof gc} zeigt
+ * {@code gc.alloc.rate.norm} die Allokation pro Operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({ "1000" })
+    public int n;
+
+    private Queue<Integer> queue;
+    private RingQueue<Integer> ringQueue;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        queue = new Queue<>();
+        ringQueue = new RingQueue<>();
+        for (int i = 0; i < n; i++) {
+            queue.enqueue(wert);
+            ringQueue.enqueue(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer queueDauerbetrieb() {
+        queue.enqueue(wert);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer ringQueueDauerbetrieb() {
+        ringQueue.enqueue(wert);
+        return ringQueue.dequeue();
+    }
+
+    @Benchmark
+    public int queueFuellenLeeren() {
+        Queue<Integer> q = new Queue<>();
+        for (int i = 0; i < n; i++) {
+            q.enqueue(wert);
+        }
+        int summe = 0;
+        while (!q.isEmpty()) {
+            summe += q.dequeue();
+        }
+        return summe;
+    }
+
+    @Benchmark
+    public int ringQueueFuellenLeeren() {
+        RingQueue<Integer> q = new RingQueue<>(n, false);
+        for (int i = 0; i < n; i++) {
+            q.enqueue(wert);
+        }
+        int summe = 0;
+        while (!q.isEmpty()) {
+            summe += q.dequeue();
+        }
+        return summe;
+    }
+}
@@ -0,0 +1,68 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Teil der Operationsreihe ({@code gradle jmhOps}): die Grundoperationen des
+ * {@link Queue} für n = 10² bis 10⁷. enqueue und dequeue werden paarweise
+ * gemessen, damit die Schlange während der Messung n Elemente behält.
+ *
+ * Aufruf einzeln: {@code gradle jmh -PjmhArgs="QueueOps -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class QueueOpsBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000", "1000000", "10000000" })
+    public int n;
+
+    private Queue<Integer> queue;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        queue = new Queue<>();
+        for (int i = 0; i < n; i++) {
+            queue.enqueue(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        queue.enqueue(wert);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer head() {
+        return queue.head();
+    }
+
+    @Benchmark
+    public int durchlaufen() {
+        int anzahl = 0;
+        for (Integer inhalt : queue) {
+            if (inhalt != null) {
+                anzahl++;
+            }
+        }
+        return anzahl;
+    }
+}
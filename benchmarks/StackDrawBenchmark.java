@@ -0,0 +1,69 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import processing.core.PApplet;
+
+/**
+ * Kosten eines Frames beim Zeichnen eines großen {@link Stack} auf einem
+ * Sketch ohne Fenster. Mit {@code -prof gc} zeigt {@code gc.alloc.rate.norm},
+ * wie viel pro Frame allokiert wird; die Inhalte sind Zeichenketten, damit
+ * toString selbst nichts anlegt. Größere Stapel z. B. mit {@code -p n=100000}.
+ * {@code frame} zeichnet einen unveränderten Stapel, die GUI kopiert also nur
+ * ihr Pufferbild; {@code frameGeaendert} ändert den Stapel vorher, sodass neu
+ * gezeichnet werden muss.
+ *
+ * Aufruf: {@code gradle jmh -PjmhArgs="StackDraw -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackDrawBenchmark {
+
+    @Param({ "10000" })
+    public int n;
+
+    private Stack<String> stack;
+    private PApplet sketch;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        stack = new Stack<>();
+        for (int i = 0; i < n; i++) {
+            stack.push1(Integer.toString(i));
+        }
+        sketch = Zeichenflaeche.erzeugen(800, 600);
+    }
+
+    @Benchmark
+    public PApplet frame() {
+        sketch.background(255);
+        stack.drawStack(sketch);
+        return sketch;
+    }
+
+    @Benchmark
+    public PApplet frameGeaendert() {
+        stack.push1("neu");
+        stack.pop1();
+        sketch.background(255);
+        stack.drawStack(sketch);
+        return sketch;
+    }
+}
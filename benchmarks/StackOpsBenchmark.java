@@ -0,0 +1,68 @@
+package adt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Teil der Operationsreihe ({@code gradle jmhOps}): die Grundoperationen des
+ * {@link Stack} für n = 10² bis 10⁷. push1 und pop1 werden paarweise
+ * gemessen, damit der Stapel während der Messung n Elemente behält.
+ *
+ * Aufruf einzeln: {@code gradle jmh -PjmhArgs="StackOps -prof gc"}
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class StackOpsBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000", "1000000", "10000000" })
+    public int n;
+
+    private Stack<Integer> stack;
+    private final Integer wert = 42;
+
+    @Setup(Level.Trial)
+    public void aufbauen() {
+        stack = new Stack<>();
+        for (int i = 0; i < n; i++) {
+            stack.push1(wert);
+        }
+    }
+
+    @Benchmark
+    public Integer push1Pop1() {
+        stack.push1(wert);
+        return stack.pop1();
+    }
+
+    @Benchmark
+    public Integer top() {
+        return stack.top();
+    }
+
+    @Benchmark
+    public int durchlaufen() {
+        int anzahl = 0;
+        for (Integer inhalt : stack) {
+            if (inhalt != null) {
+                anzahl++;
+            }
+        }
+        return anzahl;
+    }
+}
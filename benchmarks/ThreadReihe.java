@@ -0,0 +1,39 @@
+package adt;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Führt eine Benchmark-Klasse nacheinander mit 1, 2, 4, 8, 16 und 32 Threads
+ * aus und gibt anschließend eine Übersicht des Durchsatzes aus. Wird von den
+ * main-Methoden der Benchmarks für die nebenläufigen Strukturen verwendet.
+ */
+final class ThreadReihe {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32 };
+
+    private ThreadReihe() {
+    }
+
+    static void ausfuehren(Class<?> benchmark) throws RunnerException {
+        StringBuilder uebersicht = new StringBuilder("Threads  Benchmark  ops/us\n");
+        for (int threads : THREADS) {
+            Options optionen = new OptionsBuilder()
+                    .include(benchmark.getSimpleName())
+                    .threads(threads)
+                    .build();
+            Collection<RunResult> ergebnisse = new Runner(optionen).run();
+            for (RunResult ergebnis : ergebnisse) {
+                uebersicht.append(String.format("%7d  %-9s  %.3f%n", threads,
+                        ergebnis.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                        ergebnis.getPrimaryResult().getScore()));
+            }
+        }
+        System.out.print(uebersicht);
+    }
+}
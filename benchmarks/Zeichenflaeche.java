@@ -0,0 +1,35 @@
+package adt;
+
+import processing.awt.PGraphicsJava2D;
+import processing.core.PApplet;
+
+/**
+ * Hilfsklasse für Zeichen-Benchmarks: Erzeugt einen PApplet ohne Fenster, der
+ * in ein Java2D-Bild im Speicher zeichnet. Damit laufen die draw-Methoden der
+ * Datenstrukturen wie in einem echten Sketch, aber auch ohne Bildschirm.
+ */
+final class Zeichenflaeche {
+
+    private Zeichenflaeche() {
+    }
+
+    /**
+     * Legt einen Sketch mit der angegebenen Größe an, dessen Zeichenfläche
+     * bereits mit beginDraw geöffnet ist.
+     */
+    static PApplet erzeugen(int breite, int hoehe) {
+        PApplet sketch = new PApplet();
+        PGraphicsJava2D g = new PGraphicsJava2D();
+        g.setParent(sketch);
+        g.setPrimary(false);
+        g.setSize(breite, hoehe);
+        sketch.g = g;
+        sketch.width = breite;
+        sketch.height = hoehe;
+        g.beginDraw();
+        // Standardschrift jetzt anlegen: Processing erzeugt sie sonst beim ersten
+        // textSize in genau dieser Größe, was bei sehr kleinen Kästchen scheitert.
+        sketch.textSize(12);
+        return sketch;
+    }
+}
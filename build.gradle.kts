@@ -15,8 +15,21 @@ sourceSets {
     main {
         java {
             setSrcDirs(listOf("."))
+            exclude("benchmarks/**", "build/**", "test/**")
         }
     }
+    test {
+        java {
+            setSrcDirs(listOf("test"))
+        }
+    }
+    create("jmh") {
+        java {
+            setSrcDirs(listOf("benchmarks"))
+        }
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
 }
 
 val libraryProperties = Properties().apply {
@@ -41,6 +54,11 @@ dependencies {
     compileOnly(group = "org.processing", name = "core", version = "4.3.1")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    // Die Benchmarks zeichnen nur über Java2D, JOGL wird daher nicht benötigt.
+    "jmhImplementation"(group = "org.processing", name = "core", version = "4.3.1") { isTransitive = false }
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
@@ -56,6 +74,35 @@ tasks.test {
     useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks, e.g. gradle jmh -PjmhArgs=\"DynArray -prof gc\" (-PjmhMain runs a harness class instead)"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set(project.findProperty("jmhMain")?.toString() ?: "org.openjdk.jmh.Main")
+    args = project.findProperty("jmhArgs")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+val jmhOpsResult = "build/jmh/ops.csv"
+val jmhOpsBaseline = "benchmarks/baseline/ops.csv"
+
+tasks.register<JavaExec>("jmhOps") {
+    group = "benchmark"
+    description = "Runs the operation suite (*OpsBenchmark, n = 10^2..10^7) with -prof gc into $jmhOpsResult; -PjmhArgs adds JMH options, e.g. \"-wi 1 -i 2\""
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = listOf("OpsBenchmark", "-prof", "gc", "-rf", "csv", "-rff", jmhOpsResult) +
+        (project.findProperty("jmhArgs")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: listOf())
+    doFirst { file(jmhOpsResult).parentFile.mkdirs() }
+}
+
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    description = "Compares $jmhOpsResult with $jmhOpsBaseline and fails if a primary score or gc.alloc.rate.norm regressed (-PjmhFactor, default 1.25); same machine only"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("adt.BaselineVergleich")
+    args = listOf(jmhOpsBaseline, jmhOpsResult) + listOfNotNull(project.findProperty("jmhFactor")?.toString())
+}
+
 
 val releaseRoot = "$rootDir/release"
 val releaseName = "adt"
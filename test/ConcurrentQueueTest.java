@@ -0,0 +1,112 @@
+package adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Belastet die ConcurrentQueue mit mehreren Erzeugern und Verbrauchern
+ * gleichzeitig. Jeder Erzeuger legt eine fortlaufend nummerierte Folge ab. Am
+ * Ende muss jedes Element genau einmal entnommen worden sein, und jeder
+ * Verbraucher muss die Elemente eines Erzeugers in dessen Reihenfolge sehen.
+ */
+class ConcurrentQueueTest {
+    private static final int ERZEUGER = 4;
+    private static final int VERBRAUCHER = 4;
+    private static final int PRO_ERZEUGER = 200_000;
+
+    @Test
+    @Timeout(60)
+    void mehrereErzeugerUndVerbraucher() throws Exception {
+        ConcurrentQueue<Long> schlange = new ConcurrentQueue<>();
+        int gesamt = ERZEUGER * PRO_ERZEUGER;
+        AtomicInteger entnommen = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(ERZEUGER + VERBRAUCHER);
+        try {
+            List<Future<?>> erzeuger = new ArrayList<>();
+            for (int p = 0; p < ERZEUGER; p++) {
+                long nummer = p;
+                erzeuger.add(threads.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (long i = 0; i < PRO_ERZEUGER; i++) {
+                        schlange.enqueue(nummer << 32 | i);
+                    }
+                    return null;
+                }));
+            }
+            List<Future<List<Long>>> verbraucher = new ArrayList<>();
+            for (int c = 0; c < VERBRAUCHER; c++) {
+                verbraucher.add(threads.submit(() -> {
+                    start.await();
+                    List<Long> gesehen = new ArrayList<>();
+                    long[] zuletzt = new long[ERZEUGER];
+                    Arrays.fill(zuletzt, -1);
+                    while (entnommen.get() < gesamt) {
+                        Long x = schlange.dequeue();
+                        if (x == null) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        entnommen.incrementAndGet();
+                        int p = (int) (x >>> 32);
+                        long i = x & 0xFFFFFFFFL;
+                        assertTrue(i > zuletzt[p], "Reihenfolge von Erzeuger " + p + " verletzt: " + i
+                                + " nach " + zuletzt[p]);
+                        zuletzt[p] = i;
+                        gesehen.add(x);
+                    }
+                    return gesehen;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : erzeuger) {
+                f.get();
+            }
+            boolean[] vorhanden = new boolean[gesamt];
+            int anzahl = 0;
+            for (Future<List<Long>> f : verbraucher) {
+                for (long x : f.get()) {
+                    int index = (int) (x >>> 32) * PRO_ERZEUGER + (int) (x & 0xFFFFFFFFL);
+                    assertTrue(!vorhanden[index], "doppelt entnommen: " + index);
+                    vorhanden[index] = true;
+                    anzahl++;
+                }
+            }
+            assertEquals(gesamt, anzahl, "Elemente verloren");
+            assertTrue(schlange.isEmpty());
+            assertNull(schlange.dequeue());
+        } finally {
+            threads.shutdownNow();
+            threads.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void einzelnerThreadWieQueue() {
+        ConcurrentQueue<String> schlange = new ConcurrentQueue<>();
+        assertTrue(schlange.isEmpty());
+        assertNull(schlange.head());
+        schlange.enqueue("a");
+        schlange.enqueue("b");
+        assertEquals("a", schlange.head());
+        assertEquals("a", schlange.dequeue());
+        assertEquals("b", schlange.dequeue());
+        assertNull(schlange.dequeue());
+        assertTrue(schlange.isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Belastet den ConcurrentStack mit mehreren Threads gleichzeitig. Reine
+ * Erzeuger und Verbraucher prüfen den Stapel selbst, Threads, die abwechselnd
+ * ablegen und entnehmen, treffen sich zusätzlich im Eliminationsfeld. Am Ende
+ * muss jedes abgelegte Element genau einmal entnommen worden sein.
+ */
+class ConcurrentStackTest {
+	private static final int ERZEUGER = 4;
+	private static final int VERBRAUCHER = 4;
+	private static final int PRO_ERZEUGER = 200_000;
+
+	@Test
+	@Timeout(60)
+	void mehrereErzeugerUndVerbraucher() throws Exception {
+		ConcurrentStack<Integer> stapel = new ConcurrentStack<>();
+		int gesamt = ERZEUGER * PRO_ERZEUGER;
+		AtomicInteger entnommen = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService threads = Executors.newFixedThreadPool(ERZEUGER + VERBRAUCHER);
+		try {
+			List<Future<?>> erzeuger = new ArrayList<>();
+			for (int p = 0; p < ERZEUGER; p++) {
+				int erstes = p * PRO_ERZEUGER;
+				erzeuger.add(threads.submit((Callable<Void>) () -> {
+					start.await();
+					for (int i = 0; i < PRO_ERZEUGER; i++) {
+						stapel.push1(erstes + i);
+					}
+					return null;
+				}));
+			}
+			List<Future<List<Integer>>> verbraucher = new ArrayList<>();
+			for (int c = 0; c < VERBRAUCHER; c++) {
+				verbraucher.add(threads.submit(() -> {
+					start.await();
+					List<Integer> gesehen = new ArrayList<>();
+					while (entnommen.get() < gesamt) {
+						Integer x = stapel.pop1();
+						if (x == null) {
+							Thread.onSpinWait();
+							continue;
+						}
+						entnommen.incrementAndGet();
+						gesehen.add(x);
+					}
+					return gesehen;
+				}));
+			}
+			start.countDown();
+			for (Future<?> f : erzeuger) {
+				f.get();
+			}
+			List<Integer> alle = new ArrayList<>();
+			for (Future<List<Integer>> f : verbraucher) {
+				alle.addAll(f.get());
+			}
+			pruefeGenauEinmal(alle, gesamt);
+			assertTrue(stapel.isEmpty());
+			assertNull(stapel.pop1());
+		} finally {
+			threads.shutdownNow();
+			threads.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	@Timeout(60)
+	void abwechselndAblegenUndEntnehmen() throws Exception {
+		ConcurrentStack<Integer> stapel = new ConcurrentStack<>();
+		int anzahlThreads = ERZEUGER + VERBRAUCHER;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService threads = Executors.newFixedThreadPool(anzahlThreads);
+		try {
+			List<Future<List<Integer>>> ergebnisse = new ArrayList<>();
+			for (int t = 0; t < anzahlThreads; t++) {
+				int erstes = t * PRO_ERZEUGER;
+				ergebnisse.add(threads.submit(() -> {
+					start.await();
+					List<Integer> gesehen = new ArrayList<>();
+					for (int i = 0; i < PRO_ERZEUGER; i++) {
+						stapel.push1(erstes + i);
+						Integer x = stapel.pop1();
+						if (x != null) {
+							gesehen.add(x);
+						}
+					}
+					return gesehen;
+				}));
+			}
+			start.countDown();
+			List<Integer> alle = new ArrayList<>();
+			for (Future<List<Integer>> f : ergebnisse) {
+				alle.addAll(f.get());
+			}
+			for (Integer x = stapel.pop1(); x != null; x = stapel.pop1()) {
+				alle.add(x);
+			}
+			pruefeGenauEinmal(alle, anzahlThreads * PRO_ERZEUGER);
+		} finally {
+			threads.shutdownNow();
+			threads.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void einzelnerThreadWieStack() {
+		ConcurrentStack<String> stapel = new ConcurrentStack<>();
+		assertTrue(stapel.isEmpty());
+		assertNull(stapel.top());
+		stapel.push1("a");
+		stapel.push1("b");
+		assertEquals("b", stapel.top());
+		assertEquals("b", stapel.pop1());
+		assertEquals("a", stapel.pop1());
+		assertNull(stapel.pop1());
+		assertTrue(stapel.isEmpty());
+	}
+
+	/**
+	 * Prüft, dass die Zahlen 0 bis gesamt - 1 jeweils genau einmal vorkommen.
+	 */
+	private static void pruefeGenauEinmal(List<Integer> entnommen, int gesamt) {
+		boolean[] vorhanden = new boolean[gesamt];
+		for (int x : entnommen) {
+			assertTrue(!vorhanden[x], "doppelt entnommen: " + x);
+			vorhanden[x] = true;
+		}
+		assertEquals(gesamt, entnommen.size(), "Elemente verloren");
+	}
+}
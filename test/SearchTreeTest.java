@@ -0,0 +1,133 @@
+package adt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Vergleicht den SearchTree bei zufälligen Folgen von insert und remove mit
+ * einem TreeSet. Nach jeder Änderung wird der ganze Baum nachgezählt: Die von
+ * BinTree zwischengespeicherten Werte für Tiefe und Anzahl müssen mit dem
+ * Nachzählen übereinstimmen, jedes Kind muss auf seinen Elternknoten verweisen
+ * und jeder Knoten muss die AVL-Bedingung erfüllen.
+ */
+class SearchTreeTest {
+
+	@Test
+	void zufaelligeFolgenWieTreeSet() {
+		for (long seed = 1; seed <= 20; seed++) {
+			Random zufall = new Random(seed);
+			SearchTree baum = new SearchTree();
+			TreeSet<Integer> vergleich = new TreeSet<>();
+			int bereich = 50 + zufall.nextInt(500);
+			for (int i = 0; i < 2000; i++) {
+				int z = zufall.nextInt(bereich);
+				if (zufall.nextInt(3) == 0) {
+					assertEquals(vergleich.remove(z), baum.remove(z), "remove " + z);
+				} else {
+					assertEquals(vergleich.add(z), baum.insert(z), "insert " + z);
+				}
+				pruefen(baum, vergleich);
+			}
+		}
+	}
+
+	@Test
+	void zeichenkettenWieTreeSet() {
+		Random zufall = new Random(42);
+		SearchTree baum = new SearchTree();
+		TreeSet<String> vergleich = new TreeSet<>();
+		for (int i = 0; i < 3000; i++) {
+			String s = Integer.toString(zufall.nextInt(400), 36);
+			if (zufall.nextBoolean()) {
+				assertEquals(vergleich.remove(s), baum.remove(s), "remove " + s);
+			} else {
+				assertEquals(vergleich.add(s), baum.insert(s), "insert " + s);
+			}
+			assertEquals(vergleich.size(), baum.size());
+			pruefeKnoten(baum.getBinTree(), null);
+		}
+		assertArrayEquals(vergleich.toArray(new String[0]), baum.getBinTree().inorderTexte());
+	}
+
+	@Test
+	void wurzelMitEinemKindEntfernen() {
+		SearchTree baum = new SearchTree();
+		baum.insert(1);
+		baum.insert(2);
+		baum.remove(1);
+		assertNull(baum.getBinTree().getEltern());
+		pruefeKnoten(baum.getBinTree(), null);
+
+		baum = new SearchTree();
+		baum.insert(2);
+		baum.insert(1);
+		baum.remove(2);
+		assertNull(baum.getBinTree().getEltern());
+		pruefeKnoten(baum.getBinTree(), null);
+	}
+
+	@Test
+	void aufsteigendEinfuegenBleibtAusgeglichen() {
+		SearchTree baum = new SearchTree();
+		for (int i = 0; i < (1 << 12) - 1; i++) {
+			baum.insert(i);
+		}
+		assertEquals(12, baum.getBinTree().getTiefe());
+		pruefeKnoten(baum.getBinTree(), null);
+	}
+
+	@Test
+	void leererBaum() {
+		SearchTree baum = new SearchTree();
+		assertTrue(baum.isEmpty());
+		assertNull(baum.min());
+		assertFalse(baum.remove(3));
+		baum.insert(3);
+		assertTrue(baum.remove(3));
+		assertTrue(baum.isEmpty());
+		assertFalse(baum.getBinTree().hasItem());
+		assertEquals(0, baum.getBinTree().size());
+	}
+
+	private static void pruefen(SearchTree baum, TreeSet<Integer> vergleich) {
+		assertEquals(vergleich.size(), baum.size());
+		BinTree wurzel = baum.getBinTree();
+		if (vergleich.isEmpty()) {
+			assertFalse(wurzel.hasItem());
+			return;
+		}
+		assertNull(wurzel.getEltern(), "Wurzel ist noch eingehängt");
+		pruefeKnoten(wurzel, null);
+		assertArrayEquals(vergleich.stream().mapToInt(Integer::intValue).toArray(), wurzel.inorderZahlen());
+		assertEquals(vergleich.first(), baum.min().getZahl());
+		assertEquals(vergleich.last(), baum.max().getZahl());
+	}
+
+	/**
+	 * Prüft den Teilbaum rekursiv und gibt seine nachgezählte Höhe und Anzahl
+	 * zurück.
+	 */
+	private static int[] pruefeKnoten(BinTree k, BinTree eltern) {
+		if (k == null || !k.hasItem()) {
+			return new int[] { 0, 0 };
+		}
+		assertSame(eltern, k.getEltern(), "falscher Elternverweis");
+		int[] l = pruefeKnoten(k.getLeft(), k);
+		int[] r = pruefeKnoten(k.getRight(), k);
+		assertTrue(Math.abs(l[0] - r[0]) <= 1, "AVL-Bedingung verletzt");
+		int hoehe = Math.max(l[0], r[0]) + 1;
+		int anzahl = l[1] + r[1] + 1;
+		assertEquals(hoehe, k.getTiefe(), "getTiefe()");
+		assertEquals(anzahl, k.size(), "size()");
+		return new int[] { hoehe, anzahl };
+	}
+}